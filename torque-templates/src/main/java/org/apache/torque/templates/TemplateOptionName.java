@@ -63,6 +63,45 @@ public enum TemplateOptionName implements OptionName
      */
     OM_GENERATE_MAP_INIT("torque.om.generateMapInit"),
 
+    /**
+     * Whether the peers initialize only their own table map
+     * instead of the complete database map.
+     */
+    OM_LAZY_MAP_INIT("torque.om.lazyMapInit"),
+
+    /**
+     * Whether the peers record their modifications in the generated
+     * asynchronous modify event dispatcher.
+     */
+    OM_ASYNC_MODIFY_EVENTS("torque.om.asyncModifyEvents"),
+
+    /** Whether a bulk loader class is generated for each table. */
+    OM_GENERATE_BULK_LOADERS("torque.om.generateBulkLoaders"),
+
+    /**
+     * Whether the peers record query metrics in the generated
+     * query metrics class.
+     */
+    OM_GENERATE_QUERY_METRICS("torque.om.generateQueryMetrics"),
+
+    /**
+     * Whether the peers get asynchronous methods returning
+     * CompletableFuture.
+     */
+    OM_GENERATE_ASYNC_PEERS("torque.om.generateAsyncPeers"),
+
+    /**
+     * Whether the peers get columnar select methods reading into
+     * generated column batch classes.
+     */
+    OM_GENERATE_COLUMNAR_SELECTS("torque.om.generateColumnarSelects"),
+
+    /**
+     * Whether the fillers and setAndSave methods use collections
+     * of primitive long keys for single integral key columns.
+     */
+    OM_GENERATE_PRIMITIVE_KEYS("torque.om.generatePrimitiveKeys"),
+
     /** The default base class for dbObjects. */
     OM_DB_OBJECT_DEFAULT_BASE_CLASS("torque.om.dbObjectDefaultBaseClass"),
 
@@ -84,6 +123,15 @@ public enum TemplateOptionName implements OptionName
     /** The suffix of the name of the manager class. */
     OM_MANAGER_CLASS_NAME_SUFFIX("torque.om.className.managerClassNameSuffix"),
 
+    /** Whether the complex object model is generated. */
+    OM_COMPLEX_OBJECT_MODEL("torque.om.complexObjectModel"),
+
+    /** Whether the data objects cache their related objects. */
+    OM_OBJECT_IS_CACHING("torque.om.objectIsCaching"),
+
+    /** Whether filler methods are generated in the peers. */
+    OM_GENERATE_FILLERS("torque.om.complexObjectModel.generateFillers"),
+
     /** The name of the option for the prefix of the adder methods. */
     OM_ADDER_PREFIX("torque.om.complexObjectModel.adderPrefix"),
 
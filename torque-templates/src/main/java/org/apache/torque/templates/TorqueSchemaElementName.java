@@ -59,7 +59,25 @@ public enum TorqueSchemaElementName implements SourceElementName
     /** element index-column. */
     INDEX_COLUMN("index-column"),
     /** element enum-value. */
-    ENUM_VALUE("enum-value");
+    ENUM_VALUE("enum-value"),
+    /** element projection. */
+    PROJECTION("projection"),
+    /** element projection-column. */
+    PROJECTION_COLUMN("projection-column"),
+    /** element finder. */
+    FINDER("finder"),
+    /** element finder-column. */
+    FINDER_COLUMN("finder-column"),
+    /** element finder-order. */
+    FINDER_ORDER("finder-order"),
+    /** element finder-table. */
+    FINDER_TABLE("finder-table"),
+    /** element partition. */
+    PARTITION("partition"),
+    /** element partition-column. */
+    PARTITION_COLUMN("partition-column"),
+    /** element partition-definition. */
+    PARTITION_DEFINITION("partition-definition");
 
     /**
      * The name of the element, not null.
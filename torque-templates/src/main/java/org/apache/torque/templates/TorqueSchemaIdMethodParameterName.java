@@ -0,0 +1,126 @@
+package org.apache.torque.templates;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.torque.generator.source.transform.SourceTransformerException;
+
+/**
+ * Holds the names of the id-method-parameters which configure
+ * how primary keys are allocated.
+ * Any other id-method-parameter names the sequence of the table.
+ */
+public enum TorqueSchemaIdMethodParameterName
+{
+    /**
+     * The number of keys allocated at once, i.e. the increment
+     * of the sequence and the quantity of the id broker.
+     */
+    ALLOCATION_SIZE("allocationSize"),
+
+    /**
+     * The number of sequence values the database keeps in memory.
+     */
+    CACHE_SIZE("cacheSize");
+
+    /**
+     * The name of the id-method-parameter, not null.
+     */
+    private String name;
+
+    /**
+     * Constructor.
+     *
+     * @param name the name of the id-method-parameter, not null.
+     */
+    private TorqueSchemaIdMethodParameterName(String name)
+    {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the id-method-parameter.
+     *
+     * @return the name of the id-method-parameter, not null.
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Parses the value of this id-method-parameter.
+     *
+     * @param value the value to parse, not null.
+     * @param tableName the name of the table, for error messages.
+     *
+     * @return the parsed value, greater than zero.
+     *
+     * @throws SourceTransformerException if the value is not
+     *         a positive integer.
+     */
+    public int parseValue(String value, Object tableName)
+            throws SourceTransformerException
+    {
+        try
+        {
+            int result = Integer.parseInt(value.trim());
+            if (result > 0)
+            {
+                return result;
+            }
+        }
+        catch (NumberFormatException e)
+        {
+            // handled below
+        }
+        throw new SourceTransformerException("The id-method-parameter "
+                + name
+                + " of table "
+                + tableName
+                + " must be a positive integer but is "
+                + value);
+    }
+
+    /**
+     * Returns whether an id-method-parameter with the given name
+     * contains the name of the sequence rather than an allocation setting.
+     *
+     * @param parameterName the name of the id-method-parameter, may be null.
+     *
+     * @return true if the parameter is not an allocation setting.
+     */
+    public static boolean isSequenceNameParameter(String parameterName)
+    {
+        for (TorqueSchemaIdMethodParameterName parameter : values())
+        {
+            if (parameter.name.equals(parameterName))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString()
+    {
+        return name;
+    }
+}
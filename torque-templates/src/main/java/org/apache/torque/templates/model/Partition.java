@@ -0,0 +1,99 @@
+package org.apache.torque.templates.model;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The model of the partition tag in a Torque schema file.
+ *
+ * @version $Id: $
+ */
+public class Partition
+{
+    // schema properties
+
+    /** The table which is partitioned. */
+    public Table parent;
+
+    /** The columns by which the table is partitioned. */
+    public List<PartitionColumn> partitionColumnList = new ArrayList<>();
+
+    /** The explicitly defined partitions. */
+    public List<PartitionDefinition> partitionDefinitionList
+            = new ArrayList<>();
+
+    /**
+     * The partitioning strategy.
+     * Valid values are "range", "list" and "hash".
+     */
+    public String strategy;
+
+    /**
+     * The number of partitions to generate for hash partitioning,
+     * or null if the partitions are defined explicitly.
+     */
+    public Integer partitions;
+
+    /**
+     * The interval of the generated range partitions, e.g. "1 month",
+     * "7 day" or "1 year" for date columns or a number for numeric columns.
+     * If set, start and end must also be set.
+     */
+    public String interval;
+
+    /** The lower bound of the first generated range partition. */
+    public String start;
+
+    /** The upper bound of the last generated range partition. */
+    public String end;
+
+    // SQL generation properties
+
+    /**
+     * Contains all partition column names in a comma-separated String.
+     */
+    public String partitionColumnNames;
+
+    /**
+     * The SQL type of the partition column, used for partition functions.
+     */
+    public String columnSqlType;
+
+    /**
+     * The number of interval units of the generated range partitions,
+     * or null if no partitions are generated.
+     */
+    public Integer intervalCount;
+
+    /**
+     * The unit of the generated range partitions in upper case
+     * (DAY, WEEK, MONTH or YEAR), or null for numeric intervals
+     * or if no partitions are generated.
+     */
+    public String intervalUnit;
+
+    /** The name of the partition function (if needed by the database). */
+    public String functionName;
+
+    /** The name of the partition scheme (if needed by the database). */
+    public String schemeName;
+}
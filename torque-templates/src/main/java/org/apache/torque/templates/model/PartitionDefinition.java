@@ -0,0 +1,65 @@
+package org.apache.torque.templates.model;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ * The model of the partition-definition tag in a Torque schema file.
+ *
+ * @version $Id: $
+ */
+public class PartitionDefinition
+{
+    // schema properties
+
+    /** The partition to which this partition definition belongs. */
+    public Partition parent;
+
+    /** The name of the partition. */
+    public String name;
+
+    /**
+     * The comma-separated values of the partition.
+     * For range partitions, these are the exclusive upper bounds,
+     * one value per partition column, MAXVALUE for no upper bound.
+     * For list partitions, these are the values contained in the partition.
+     * Not used for hash partitions.
+     */
+    public String values;
+
+    // SQL generation properties
+
+    /** The values of the partition as SQL literals, comma-separated. */
+    public String sqlValues;
+
+    /**
+     * The inclusive lower bounds of a range partition as SQL literals,
+     * comma-separated, MINVALUE for the first partition.
+     */
+    public String sqlLowerBound;
+
+    /** Whether the upper bound of a range partition is MAXVALUE. */
+    public boolean maxValue;
+
+    /** The modulus of a hash partition. */
+    public int modulus;
+
+    /** The remainder of a hash partition. */
+    public int remainder;
+}
@@ -49,6 +49,9 @@ public class Table
     /** The list of unique indices for this table. */
     public List<Unique> uniqueList = new ArrayList<>();
 
+    /** The partitioning of this table, or null if it is not partitioned. */
+    public Partition partition;
+
     /** The id method parameters for this table. */
     public List<IdMethodParameter> idMethodParameterList
         = new ArrayList<>();
@@ -137,6 +140,12 @@ public class Table
     /** The class name of the record mapper base class. */
     public String baseRecordMapperClassName;
 
+    /** The class name of the bulk loader class. */
+    public String bulkLoaderClassName;
+
+    /** The class name of the column batch class. */
+    public String columnBatchClassName;
+
     /** The package of the data object class. */
     public String dbObjectPackage;
 
@@ -184,6 +193,45 @@ public class Table
     /** The interface for the peer class. */
     public String peerInterface;
 
+    /**
+     * The maximum number of keys per query if referenced objects
+     * are loaded in batches, or 0 if batch loading is disabled.
+     */
+    public Integer batchFetchSize;
+
+    /**
+     * The JDBC fetch size for cursor selects,
+     * or 0 to use the default of the JDBC driver.
+     */
+    public Integer fetchSize;
+
+    /** Whether the manager caches the objects of this table. */
+    public Boolean cacheEnabled;
+
+    /**
+     * The maximum number of objects cached by the manager,
+     * or 0 for no limit.
+     */
+    public Integer cacheMaxEntries;
+
+    /**
+     * The time in seconds after which objects cached by the manager
+     * expire, or 0 if they do not expire.
+     */
+    public Integer cacheTimeToLive;
+
+    /** Whether the manager loads missing objects in a single query. */
+    public Boolean cacheBulkLoad;
+
+    /** Whether the manager caches keys which do not exist. */
+    public Boolean cacheNegativeLookups;
+
+    /**
+     * Whether the peer reads the values generated by the database
+     * back into the data object on insert and update.
+     */
+    public Boolean returnGeneratedValues;
+
     // properties for sql generation
 
     /**
@@ -203,6 +251,18 @@ public class Table
      */
     public String sequenceName;
 
+    /**
+     * The number of values the sequence of the table is incremented by,
+     * i.e. the number of keys allocated at once.
+     */
+    public int sequenceAllocationSize = 1;
+
+    /**
+     * The number of sequence values the database keeps in memory,
+     * or 0 if the values are not cached.
+     */
+    public int sequenceCacheSize;
+
     /**
      * The attribute contains all primary key columns
      * in a comma-separated String.
@@ -146,4 +146,17 @@ public interface Platform
      * @return true if unique column constraint has size
      */
     boolean hasUniqueConstraintSize();
+
+    /**
+     * Returns whether the database supports declarative partitioning
+     * of tables with the given strategy.
+     *
+     * @param strategy the partitioning strategy, one of "range", "list"
+     *        or "hash".
+     * @param numberOfColumns the number of partition columns.
+     *
+     * @return true if tables can be partitioned with the given strategy,
+     *         false if the partitioning should be ignored.
+     */
+    boolean supportsPartitioning(String strategy, int numberOfColumns);
 }
@@ -254,4 +254,15 @@ public class PlatformDefaultImpl implements Platform
     public boolean hasUniqueConstraintSize() {
         return false;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return this implementation returns false.
+     */
+    @Override
+    public boolean supportsPartitioning(String strategy, int numberOfColumns)
+    {
+        return false;
+    }
 }
@@ -129,4 +129,15 @@ public class PlatformMssqlImpl extends PlatformDefaultImpl
     {
         return !("IMAGE".equals(sqlType) || "TEXT".equals(sqlType));
     }
+
+    /**
+     * Partition functions only support range partitioning on one column.
+     *
+     * @return true for range partitioning on one column, false otherwise.
+     */
+    @Override
+    public boolean supportsPartitioning(String strategy, int numberOfColumns)
+    {
+        return "range".equals(strategy) && numberOfColumns == 1;
+    }
 }
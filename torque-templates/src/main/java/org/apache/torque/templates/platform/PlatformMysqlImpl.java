@@ -142,4 +142,15 @@ public class PlatformMysqlImpl extends PlatformDefaultImpl
     public boolean hasUniqueConstraintSize() {
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return this implementation returns true.
+     */
+    @Override
+    public boolean supportsPartitioning(String strategy, int numberOfColumns)
+    {
+        return true;
+    }
 }
@@ -186,4 +186,15 @@ public class PlatformOracleImpl extends PlatformDefaultImpl
     {
         return "TIMESTAMP".equals(sqlType) || "NUMBER".equals(sqlType);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return this implementation returns true.
+     */
+    @Override
+    public boolean supportsPartitioning(String strategy, int numberOfColumns)
+    {
+        return true;
+    }
 }
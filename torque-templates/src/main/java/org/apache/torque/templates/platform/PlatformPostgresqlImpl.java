@@ -145,5 +145,15 @@ public class PlatformPostgresqlImpl extends PlatformDefaultImpl
     {
         return true;
     }
-    
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return this implementation returns true.
+     */
+    @Override
+    public boolean supportsPartitioning(String strategy, int numberOfColumns)
+    {
+        return true;
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.torque.templates.transformer.om;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.torque.generator.control.ControllerState;
+import org.apache.torque.generator.source.SourceElement;
+import org.apache.torque.generator.source.transform.SourceTransformerException;
+import org.apache.torque.templates.TorqueSchemaAttributeName;
+import org.apache.torque.templates.TorqueSchemaElementName;
+
+/**
+ * Transforms a finder element.
+ * Copies the column attributes from the table to the finder columns
+ * and the order columns, sets the names of the generated finder method
+ * and cache and the defaults of the cache policy.
+ * The tables listed in the finder-table elements get the peer
+ * of the finder's table added to their attribute
+ * {@link #FINDER_INVALIDATED_PEERS}, so that their peers invalidate
+ * the finder caches when they are modified.
+ */
+public class OMFinderTransformer
+{
+  /**
+   * The table attribute containing the fully qualified names of the peers
+   * whose finder caches must be invalidated when the table is modified,
+   * separated by commas.
+   */
+  public static final String FINDER_INVALIDATED_PEERS = "finderInvalidatedPeers";
+
+  /** The default maximum number of cached results per finder. */
+  public static final String DEFAULT_CACHE_MAX_ENTRIES = "1000";
+
+  /** The default time to live of the cached results, 0 for unlimited. */
+  public static final String DEFAULT_CACHE_TIME_TO_LIVE = "0";
+
+  public void transform(final SourceElement finder, final ControllerState controllerState)
+     throws SourceTransformerException
+  {
+    if(!TorqueSchemaElementName.FINDER.getName().equals(finder.getName()))
+      throw new IllegalArgumentException("Illegal element Name " + finder.getName());
+
+    SourceElement tabella = finder.getParent();
+    String nomeTabella = (String) tabella.getAttribute(TorqueSchemaAttributeName.NAME);
+    String nomeFinder = (String) finder.getAttribute(TorqueSchemaAttributeName.NAME);
+    if(nomeFinder == null || nomeFinder.isEmpty())
+      throw new SourceTransformerException("finder without name in table " + nomeTabella);
+
+    String capName = StringUtils.capitalize(nomeFinder);
+    finder.setAttribute("finderMethod", "find" + capName);
+    finder.setAttribute("finderCriteriaMethod", "build" + capName + "FinderCriteria");
+    finder.setAttribute("finderCacheField", "finderCache" + capName);
+    if(finder.getAttribute("cache") == null)
+      finder.setAttribute("cache", "true");
+    if(finder.getAttribute("cacheMaxEntries") == null)
+      finder.setAttribute("cacheMaxEntries", DEFAULT_CACHE_MAX_ENTRIES);
+    if(finder.getAttribute("cacheTimeToLive") == null)
+      finder.setAttribute("cacheTimeToLive", DEFAULT_CACHE_TIME_TO_LIVE);
+
+    List<SourceElement> lsColonne = tabella.getChildren(TorqueSchemaElementName.COLUMN);
+    List<SourceElement> lsFinderCol = finder.getChildren(TorqueSchemaElementName.FINDER_COLUMN);
+    if(lsFinderCol.isEmpty())
+      throw new SourceTransformerException("finder " + nomeFinder
+         + " in table " + nomeTabella + " has no columns");
+
+    StringBuilder sb1 = new StringBuilder();
+    StringBuilder sb2 = new StringBuilder();
+    Set<String> giaUsate = new HashSet<>();
+    for(SourceElement fcol : lsFinderCol)
+    {
+      String nomeColonna = (String) fcol.getAttribute(TorqueSchemaAttributeName.NAME);
+      if(!giaUsate.add(nomeColonna))
+        throw new SourceTransformerException("column " + nomeColonna
+           + " is used more than once in finder " + nomeFinder);
+
+      SourceElement colonna = findColumn(lsColonne, nomeColonna, nomeFinder, nomeTabella);
+      copyAttributes(colonna, fcol);
+
+      if(sb1.length() != 0)
+        sb1.append(", ");
+      sb1.append(colonna.getAttribute("fieldType")).append(' ');
+      sb1.append(colonna.getAttribute("field"));
+
+      if(sb2.length() != 0)
+        sb2.append(", ");
+      sb2.append(colonna.getAttribute("field"));
+    }
+    finder.setAttribute("func-params", sb1.toString());
+    finder.setAttribute("func-passtr", sb2.toString());
+
+    for(SourceElement ocol : finder.getChildren(TorqueSchemaElementName.FINDER_ORDER))
+    {
+      String nomeColonna = (String) ocol.getAttribute(TorqueSchemaAttributeName.NAME);
+      String descending = (String) ocol.getAttribute("descending");
+      copyAttributes(findColumn(lsColonne, nomeColonna, nomeFinder, nomeTabella), ocol);
+      ocol.setAttribute("descending", descending == null ? "false" : descending);
+    }
+
+    String peer = tabella.getAttribute("peerPackage") + "." + tabella.getAttribute("peerClassName");
+    for(SourceElement ftab : finder.getChildren(TorqueSchemaElementName.FINDER_TABLE))
+    {
+      String nomeDipendente = (String) ftab.getAttribute(TorqueSchemaAttributeName.NAME);
+      if(nomeTabella.equals(nomeDipendente))
+        continue;
+
+      SourceElement dipendente = FindHelper.findTable(tabella.getParent(), nomeDipendente, false);
+      if(dipendente == null)
+        throw new SourceTransformerException("finder " + nomeFinder
+           + " in table " + nomeTabella
+           + " references the unknown table " + nomeDipendente);
+
+      String peers = (String) dipendente.getAttribute(FINDER_INVALIDATED_PEERS);
+      if(peers == null || peers.isEmpty())
+        dipendente.setAttribute(FINDER_INVALIDATED_PEERS, peer);
+      else if(!("," + peers + ",").contains("," + peer + ","))
+        dipendente.setAttribute(FINDER_INVALIDATED_PEERS, peers + "," + peer);
+    }
+  }
+
+  private SourceElement findColumn(List<SourceElement> lsColonne, String nomeColonna,
+     String nomeFinder, String nomeTabella)
+     throws SourceTransformerException
+  {
+    for(SourceElement c : lsColonne)
+    {
+      if(nomeColonna.equals(c.getAttribute(TorqueSchemaAttributeName.NAME)))
+        return c;
+    }
+
+    throw new SourceTransformerException("finder " + nomeFinder
+       + " references the unknown column " + nomeColonna
+       + " of table " + nomeTabella);
+  }
+
+  private void copyAttributes(SourceElement colonna, SourceElement target)
+  {
+    Set<String> attributeNames = colonna.getAttributeNames();
+    for(String attrname : attributeNames)
+      target.setAttribute(attrname, colonna.getAttribute(attrname));
+  }
+}
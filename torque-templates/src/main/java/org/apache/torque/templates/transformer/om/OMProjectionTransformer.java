@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.torque.templates.transformer.om;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.torque.generator.control.ControllerState;
+import org.apache.torque.generator.source.SourceElement;
+import org.apache.torque.generator.source.transform.SourceTransformerException;
+import org.apache.torque.templates.TorqueSchemaAttributeName;
+import org.apache.torque.templates.TorqueSchemaElementName;
+
+/**
+ * Transforms a projection element.
+ * Copies the column attributes from the table to the projection columns
+ * and sets the class name and package of the generated projection class.
+ */
+public class OMProjectionTransformer
+{
+  /** The suffix of the generated projection classes. */
+  public static final String PROJECTION_SUFFIX = "Projection";
+
+  public void transform(final SourceElement projection, final ControllerState controllerState)
+     throws SourceTransformerException
+  {
+    if(!TorqueSchemaElementName.PROJECTION.getName().equals(projection.getName()))
+      throw new IllegalArgumentException("Illegal element Name " + projection.getName());
+
+    SourceElement tabella = projection.getParent();
+    String nomeProiezione = (String) projection.getAttribute(TorqueSchemaAttributeName.NAME);
+    if(nomeProiezione == null || nomeProiezione.isEmpty())
+      throw new SourceTransformerException("projection without name in table "
+         + tabella.getAttribute(TorqueSchemaAttributeName.NAME));
+
+    String className = nomeProiezione.endsWith(PROJECTION_SUFFIX)
+                          ? nomeProiezione : nomeProiezione + PROJECTION_SUFFIX;
+    projection.setAttribute("projectionClassName", className);
+    projection.setAttribute("projectionPackage",
+       tabella.getAttribute(TableAttributeName.DB_OBJECT_PACKAGE));
+    projection.setAttribute("selectMethod", "select" + className);
+
+    List<SourceElement> lsColonne = tabella.getChildren(TorqueSchemaElementName.COLUMN);
+    List<SourceElement> lsProjCol = projection.getChildren(TorqueSchemaElementName.PROJECTION_COLUMN);
+    if(lsProjCol.isEmpty())
+      throw new SourceTransformerException("projection " + nomeProiezione
+         + " in table " + tabella.getAttribute(TorqueSchemaAttributeName.NAME)
+         + " has no columns");
+
+    Set<String> giaUsate = new HashSet<>();
+    for(SourceElement pcol : lsProjCol)
+    {
+      String nomeColonna = (String) pcol.getAttribute(TorqueSchemaAttributeName.NAME);
+      if(!giaUsate.add(nomeColonna))
+        throw new SourceTransformerException("column " + nomeColonna
+           + " is used more than once in projection " + nomeProiezione);
+
+      SourceElement colonna = null;
+      for(SourceElement c : lsColonne)
+      {
+        if(nomeColonna.equals(c.getAttribute(TorqueSchemaAttributeName.NAME)))
+        {
+          colonna = c;
+          break;
+        }
+      }
+
+      if(colonna == null)
+        throw new SourceTransformerException("projection " + nomeProiezione
+           + " references the unknown column " + nomeColonna
+           + " of table " + tabella.getAttribute(TorqueSchemaAttributeName.NAME));
+
+      Set<String> attributeNames = colonna.getAttributeNames();
+      for(String attrname : attributeNames)
+        pcol.setAttribute(attrname, colonna.getAttribute(attrname));
+    }
+  }
+}
@@ -29,7 +29,6 @@ import static org.apache.torque.templates.transformer.om.OMColumnJavaTransformer
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
-import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -46,6 +45,7 @@ import org.apache.torque.templates.TemplateOptionName;
 import org.apache.torque.templates.TorqueSchemaAttributeName;
 import org.apache.torque.templates.TorqueSchemaElementName;
 import org.apache.torque.templates.TorqueSchemaIdMethod;
+import org.apache.torque.templates.TorqueSchemaIdMethodParameterName;
 import org.apache.torque.templates.TorqueSchemaInheritance;
 import org.apache.torque.templates.transformer.CollectAttributeSetTrueTransformer;
 
@@ -115,6 +115,7 @@ public class OMTableAndViewTransformer extends AttributeTransformer
         setFieldNameAttribute(tableElement);
         setIdMethodAttribute(tableElement);
         setSequenceAttributeIfNecessary(tableElement);
+        setAllocationSizeAttribute(tableElement);
         setBaseClass(tableElement, controllerState);
 
         // sets all the attributes defined in OMTableTransformer.properties
@@ -126,6 +127,18 @@ public class OMTableAndViewTransformer extends AttributeTransformer
         setPeerImplSetterAttribute(tableElement);
 
         setSaveAttributes(tableElement, controllerState);
+        checkNonNegativeIntegerAttribute(
+                tableElement,
+                TableAttributeName.BATCH_FETCH_SIZE);
+        checkNonNegativeIntegerAttribute(
+                tableElement,
+                TableAttributeName.FETCH_SIZE);
+        checkNonNegativeIntegerAttribute(
+                tableElement,
+                TableAttributeName.CACHE_MAX_ENTRIES);
+        checkNonNegativeIntegerAttribute(
+                tableElement,
+                TableAttributeName.CACHE_TIME_TO_LIVE);
 
         createInheritanceColumnChildIfNecessary(tableElement);
         primaryKeyTransformer.transform(tableElement, controllerState,
@@ -265,10 +278,26 @@ public class OMTableAndViewTransformer extends AttributeTransformer
             return;
         }
 
-        List<SourceElement> idMethodParams = tableElement.getChildren(
-                TorqueSchemaElementName.ID_METHOD_PARAMETER);
-        if (idMethodParams.isEmpty()
-                && tableElement.getAttribute(TableAttributeName.SEQUENCE_NAME) == null)
+        String sequenceName = null;
+        for (SourceElement idMethodParam : tableElement.getChildren(
+                TorqueSchemaElementName.ID_METHOD_PARAMETER))
+        {
+            if (TorqueSchemaIdMethodParameterName.isSequenceNameParameter(
+                    (String) idMethodParam.getAttribute(
+                            TorqueSchemaAttributeName.NAME)))
+            {
+                sequenceName = (String) idMethodParam.getAttribute(
+                        TorqueSchemaAttributeName.VALUE);
+                break;
+            }
+        }
+        if (sequenceName != null)
+        {
+            tableElement.setAttribute(
+                    TableAttributeName.SEQUENCE_NAME,
+                    sequenceName);
+        }
+        else if (tableElement.getAttribute(TableAttributeName.SEQUENCE_NAME) == null)
         {
             tableElement.setAttribute(
                     TableAttributeName.SEQUENCE_NAME,
@@ -276,13 +305,41 @@ public class OMTableAndViewTransformer extends AttributeTransformer
                             TorqueSchemaAttributeName.NAME)
                     + "_SEQ");
         }
-        else
+    }
+
+    /**
+     * Sets the allocationSize attribute of the table element
+     * from the allocationSize id-method-parameter, or to 1 if the
+     * parameter is not set.
+     *
+     * @param tableElement the table element, not null.
+     *
+     * @throws SourceTransformerException if the parameter value
+     *         is not a positive integer.
+     */
+    protected void setAllocationSizeAttribute(SourceElement tableElement)
+            throws SourceTransformerException
+    {
+        int allocationSize = 1;
+        for (SourceElement idMethodParam : tableElement.getChildren(
+                TorqueSchemaElementName.ID_METHOD_PARAMETER))
         {
-            tableElement.setAttribute(
-                    TableAttributeName.SEQUENCE_NAME,
-                    idMethodParams.get(0).getAttribute(
-                            TorqueSchemaAttributeName.VALUE.getName()));
+            if (TorqueSchemaIdMethodParameterName.ALLOCATION_SIZE.getName()
+                    .equals(idMethodParam.getAttribute(
+                            TorqueSchemaAttributeName.NAME)))
+            {
+                allocationSize
+                        = TorqueSchemaIdMethodParameterName.ALLOCATION_SIZE
+                            .parseValue(
+                                (String) idMethodParam.getAttribute(
+                                        TorqueSchemaAttributeName.VALUE),
+                                tableElement.getAttribute(
+                                        TorqueSchemaAttributeName.NAME));
+            }
         }
+        tableElement.setAttribute(
+                TableAttributeName.ALLOCATION_SIZE,
+                Integer.toString(allocationSize));
     }
 
 
@@ -570,6 +627,56 @@ public class OMTableAndViewTransformer extends AttributeTransformer
         }
     }
 
+    /**
+     * Checks that an integer attribute of the table element
+     * is a non-negative integer and normalizes it.
+     * If the attribute is not set, it is set to 0, which means
+     * that the feature configured by the attribute is disabled.
+     *
+     * @param tableElement the table element, not null.
+     * @param attributeName the name of the attribute to check, not null.
+     *
+     * @throws SourceTransformerException if the attribute is not
+     *         a non-negative integer.
+     */
+    protected void checkNonNegativeIntegerAttribute(
+                SourceElement tableElement,
+                TableAttributeName attributeName)
+            throws SourceTransformerException
+    {
+        Object attribute = tableElement.getAttribute(attributeName);
+        if (attribute == null
+                || StringUtils.isBlank(attribute.toString()))
+        {
+            tableElement.setAttribute(attributeName, "0");
+            return;
+        }
+        int value;
+        try
+        {
+            value = Integer.parseInt(attribute.toString().trim());
+        }
+        catch (NumberFormatException e)
+        {
+            throw new SourceTransformerException("The attribute "
+                    + attributeName
+                    + " on table "
+                    + tableElement.getAttribute(TorqueSchemaAttributeName.NAME)
+                    + " is not an integer: "
+                    + attribute);
+        }
+        if (value < 0)
+        {
+            throw new SourceTransformerException("The attribute "
+                    + attributeName
+                    + " on table "
+                    + tableElement.getAttribute(TorqueSchemaAttributeName.NAME)
+                    + " must not be negative but is "
+                    + value);
+        }
+        tableElement.setAttribute(attributeName, Integer.toString(value));
+    }
+
     protected void setCreateDefaultDateMethodsAttributes(
             SourceElement tableElement)
     {
@@ -49,6 +49,8 @@ import org.apache.torque.templates.transformer.om.mapInit.DatabaseMapInitTransfo
  * <li>OMTableAndViewTransformer on all tables and views</li>
  * <li>OMForeignKeyColumnTransformer on all columns</li>
  * <li>OMForeignKeyTransformer on all foreign keys (two passes)</li>
+ * <li>OMProjectionTransformer on all projections</li>
+ * <li>OMFinderTransformer on all finders</li>
  * </ul>
  *
  * $Id: OMTransformer.java 1850969 2019-01-10 18:09:47Z painter $
@@ -105,6 +107,14 @@ public class OMTransformer implements SourceTransformer
   private static OMUnicesTransformer uniqueTransformer
      = new OMUnicesTransformer();
 
+  /** The transformer for projection elements. */
+  private static OMProjectionTransformer projectionTransformer
+     = new OMProjectionTransformer();
+
+  /** The transformer for finder elements. */
+  private static OMFinderTransformer finderTransformer
+     = new OMFinderTransformer();
+
   static
   {
     try
@@ -189,6 +199,24 @@ public class OMTransformer implements SourceTransformer
            uniqueElement,
            controllerState);
       }
+
+      for(final SourceElement projectionElement
+         : tableOrViewElement.getChildren(
+            TorqueSchemaElementName.PROJECTION))
+      {
+        projectionTransformer.transform(
+           projectionElement,
+           controllerState);
+      }
+
+      for(final SourceElement finderElement
+         : tableOrViewElement.getChildren(
+            TorqueSchemaElementName.FINDER))
+      {
+        finderTransformer.transform(
+           finderElement,
+           controllerState);
+      }
     }
 
     for(final SourceElement tableOrViewElement : allTablesAndViews)
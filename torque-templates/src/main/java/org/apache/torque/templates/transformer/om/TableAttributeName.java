@@ -88,6 +88,12 @@ public enum TableAttributeName implements SourceAttributeName
      */
     SEQUENCE_NAME("sequenceName"),
 
+    /**
+     * The number of primary keys allocated at once from the sequence
+     * of the table.
+     */
+    ALLOCATION_SIZE("allocationSize"),
+
     /**
      * The type which is passed to the save method, if any.
      */
@@ -114,7 +120,54 @@ public enum TableAttributeName implements SourceAttributeName
      * The variable name in which the name of the getDefaultTimestamp method
      * us defined, is it should be generated.
      */
-    GET_CURRENT_TIMESTAMP_METHOD_NAME("getCurrentTimestampMethodName");
+    GET_CURRENT_TIMESTAMP_METHOD_NAME("getCurrentTimestampMethodName"),
+
+    /**
+     * The maximum number of keys used in a single query when referenced
+     * objects are loaded in batches for a load group, or 0 if referenced
+     * objects are loaded one by one.
+     */
+    BATCH_FETCH_SIZE("batchFetchSize"),
+
+    /**
+     * The JDBC fetch size used for cursor selects,
+     * or 0 to use the default of the JDBC driver.
+     */
+    FETCH_SIZE("fetchSize"),
+
+    /**
+     * Whether the manager caches the objects of the table.
+     */
+    CACHE_ENABLED("cacheEnabled"),
+
+    /**
+     * The maximum number of objects cached by the manager,
+     * or 0 for no limit.
+     */
+    CACHE_MAX_ENTRIES("cacheMaxEntries"),
+
+    /**
+     * The time in seconds after which objects cached by the manager
+     * expire, or 0 if they do not expire.
+     */
+    CACHE_TIME_TO_LIVE("cacheTimeToLive"),
+
+    /**
+     * Whether the manager loads all objects missing in the cache
+     * in a single query.
+     */
+    CACHE_BULK_LOAD("cacheBulkLoad"),
+
+    /**
+     * Whether the manager caches keys which do not exist in the database.
+     */
+    CACHE_NEGATIVE_LOOKUPS("cacheNegativeLookups"),
+
+    /**
+     * Whether the peer reads the values generated by the database
+     * back into the data object on insert and update.
+     */
+    RETURN_GENERATED_VALUES("returnGeneratedValues");
 
 
     /** The name of the source element attribute, not null. */
@@ -19,23 +19,33 @@ package org.apache.torque.templates.transformer.sql;
  * under the License.
  */
 
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.TimeZone;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.torque.generator.control.ControllerState;
 import org.apache.torque.generator.source.transform.SourceTransformer;
 import org.apache.torque.generator.source.transform.SourceTransformerException;
 import org.apache.torque.templates.TemplateOptionName;
 import org.apache.torque.templates.TorqueSchemaIdMethod;
+import org.apache.torque.templates.TorqueSchemaIdMethodParameterName;
 import org.apache.torque.templates.model.Column;
 import org.apache.torque.templates.model.Database;
 import org.apache.torque.templates.model.EnumValue;
 import org.apache.torque.templates.model.ForeignKey;
+import org.apache.torque.templates.model.IdMethodParameter;
 import org.apache.torque.templates.model.Index;
 import org.apache.torque.templates.model.IndexColumn;
+import org.apache.torque.templates.model.Partition;
+import org.apache.torque.templates.model.PartitionColumn;
+import org.apache.torque.templates.model.PartitionDefinition;
 import org.apache.torque.templates.model.Reference;
 import org.apache.torque.templates.model.Table;
 import org.apache.torque.templates.model.Unique;
@@ -56,6 +66,33 @@ import org.apache.torque.templates.typemapping.TypeMap;
  */
 public class SQLModelTransformer implements SourceTransformer
 {
+    /** The class log. */
+    private static Log log = LogFactory.getLog(SQLModelTransformer.class);
+
+    /** The range partitioning strategy. */
+    public static final String PARTITION_STRATEGY_RANGE = "range";
+
+    /** The list partitioning strategy. */
+    public static final String PARTITION_STRATEGY_LIST = "list";
+
+    /** The hash partitioning strategy. */
+    public static final String PARTITION_STRATEGY_HASH = "hash";
+
+    /** The bound of range partitions which are not limited. */
+    private static final String MAXVALUE = "MAXVALUE";
+
+    /** The lower bound of the first range partition. */
+    private static final String MINVALUE = "MINVALUE";
+
+    /**
+     * The maximum number of partitions generated from an interval,
+     * the limit of MySQL.
+     */
+    private static final int MAX_GENERATED_PARTITIONS = 8192;
+
+    /** The format of date values in the schema file. */
+    private static final String SCHEMA_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss.S";
+
     /**
      * The transformer which loads the external schemata.
      *
@@ -125,12 +162,31 @@ public class SQLModelTransformer implements SourceTransformer
         {
             table.primaryKeyConstraintName = table.unqualifiedName + "_PK";
         }
-        if (StringUtils.isBlank(table.sequenceName))
+        String sequenceName = null;
+        for (IdMethodParameter idMethodParameter : table.idMethodParameterList)
         {
-            if (!table.idMethodParameterList.isEmpty())
+            if (TorqueSchemaIdMethodParameterName.ALLOCATION_SIZE.getName()
+                    .equals(idMethodParameter.name))
+            {
+                table.sequenceAllocationSize
+                        = TorqueSchemaIdMethodParameterName.ALLOCATION_SIZE
+                            .parseValue(idMethodParameter.value, table.name);
+            }
+            else if (TorqueSchemaIdMethodParameterName.CACHE_SIZE.getName()
+                    .equals(idMethodParameter.name))
+            {
+                table.sequenceCacheSize
+                        = TorqueSchemaIdMethodParameterName.CACHE_SIZE
+                            .parseValue(idMethodParameter.value, table.name);
+            }
+            else if (sequenceName == null)
             {
-                table.sequenceName = table.idMethodParameterList.get(0).value;
+                sequenceName = idMethodParameter.value;
             }
+        }
+        if (StringUtils.isBlank(table.sequenceName))
+        {
+            table.sequenceName = sequenceName;
             if (StringUtils.isBlank(table.sequenceName))
             {
                 table.sequenceName = table.name + "_SEQ";
@@ -240,6 +296,11 @@ public class SQLModelTransformer implements SourceTransformer
             }
         }
 
+        if (table.partition != null)
+        {
+            transformPartition(table.partition, controllerState);
+        }
+
         int fkIndex = 1;
         for (final ForeignKey foreignKey : table.foreignKeyList)
         {
@@ -270,34 +331,12 @@ public class SQLModelTransformer implements SourceTransformer
         final SchemaType schemaType = SchemaTypeHelper.getSchemaType(
                 column,
                 controllerState);
-        final SqlType domainType = SchemaTypeHelper.getDomain(
-                column,
-                controllerState);
-        final SqlType sqlType = SchemaTypeHelper.getSqlType(
-                schemaType,
-                domainType,
-                controllerState,
-                column.size,
-                column.scale,
-                column._default);
+        final SqlType sqlType = getSqlType(column, controllerState);
         final Platform platform = getPlatform(controllerState);
 
         final List<String> resultList = new ArrayList<>();
 
-        String sqlTypeName = sqlType.getSqlTypeName();
-
-        if (platform.hasSize(sqlTypeName))
-        {
-            sqlTypeName += sqlType.printSize(
-                    platform.getSizeSuffix(sqlTypeName));
-        }
-        
-        if (platform.hasScale(sqlTypeName))
-        {
-            sqlTypeName += sqlType.printScale();
-        }
-
-        resultList.add(sqlTypeName);
+        resultList.add(getSqlTypeName(sqlType, platform));
 
         if (StringUtils.isNotEmpty(sqlType.getDefaultValue()))
         {
@@ -374,6 +413,64 @@ public class SQLModelTransformer implements SourceTransformer
         return StringUtils.join(resultList.iterator(), ' ');
     }
 
+    /**
+     * Determines the SQL type of a column.
+     *
+     * @param column the column, not null.
+     * @param controllerState the current controller state, not null.
+     *
+     * @return the SQL type of the column, not null.
+     *
+     * @throws SourceTransformerException if the type cannot be determined.
+     */
+    private SqlType getSqlType(
+            final Column column,
+            final ControllerState controllerState)
+                    throws SourceTransformerException
+    {
+        final SchemaType schemaType = SchemaTypeHelper.getSchemaType(
+                column,
+                controllerState);
+        final SqlType domainType = SchemaTypeHelper.getDomain(
+                column,
+                controllerState);
+        return SchemaTypeHelper.getSqlType(
+                schemaType,
+                domainType,
+                controllerState,
+                column.size,
+                column.scale,
+                column._default);
+    }
+
+    /**
+     * Returns the name of a SQL type including size and scale
+     * as used in column definitions.
+     *
+     * @param sqlType the SQL type, not null.
+     * @param platform the database platform, not null.
+     *
+     * @return the SQL type name, not null.
+     */
+    private String getSqlTypeName(
+            final SqlType sqlType,
+            final Platform platform)
+    {
+        String sqlTypeName = sqlType.getSqlTypeName();
+
+        if (platform.hasSize(sqlTypeName))
+        {
+            sqlTypeName += sqlType.printSize(
+                    platform.getSizeSuffix(sqlTypeName));
+        }
+        
+        if (platform.hasScale(sqlTypeName))
+        {
+            sqlTypeName += sqlType.printScale();
+        }
+        return sqlTypeName;
+    }
+
     private Platform getPlatform(final ControllerState controllerState)
     {
         final Platform platform = PlatformFactory.getPlatformFor(
@@ -417,6 +514,570 @@ public class SQLModelTransformer implements SourceTransformer
         foreignKey.foreignColumnNames = foreignColumnNames.toString();
     }
 
+    /**
+     * Validates the partitioning of a table and generates the partitions
+     * defined by an interval or by the number of hash partitions.
+     * If the database does not support the partitioning, it is removed
+     * from the table and a warning is logged.
+     *
+     * @param partition the partitioning of the table, not null.
+     * @param controllerState the current controller state, not null.
+     *
+     * @throws SourceTransformerException if the partitioning is invalid.
+     */
+    private void transformPartition(
+            final Partition partition,
+            final ControllerState controllerState)
+                    throws SourceTransformerException
+    {
+        final Table table = partition.parent;
+        final String strategy = StringUtils.lowerCase(partition.strategy);
+        if (!PARTITION_STRATEGY_RANGE.equals(strategy)
+                && !PARTITION_STRATEGY_LIST.equals(strategy)
+                && !PARTITION_STRATEGY_HASH.equals(strategy))
+        {
+            throw new SourceTransformerException("Unknown partition strategy "
+                    + partition.strategy
+                    + " on table "
+                    + table.name
+                    + ", must be one of range, list or hash");
+        }
+        partition.strategy = strategy;
+
+        if (partition.partitionColumnList.isEmpty())
+        {
+            throw new SourceTransformerException("The partition of table "
+                    + table.name
+                    + " has no partition columns");
+        }
+        final List<Column> partitionColumns = new ArrayList<>();
+        final List<String> partitionColumnNames = new ArrayList<>();
+        for (final PartitionColumn partitionColumn
+                : partition.partitionColumnList)
+        {
+            final Column column = findColumn(table, partitionColumn.name);
+            if (column == null)
+            {
+                throw new SourceTransformerException("The partition column "
+                        + partitionColumn.name
+                        + " does not exist in table "
+                        + table.name);
+            }
+            partitionColumns.add(column);
+            partitionColumnNames.add(column.name);
+        }
+        if (PARTITION_STRATEGY_LIST.equals(strategy)
+                && partitionColumns.size() != 1)
+        {
+            throw new SourceTransformerException("The list partition of table "
+                    + table.name
+                    + " must have exactly one partition column");
+        }
+
+        // the databases can only enforce keys within a partition
+        if (!table.primaryKeyList.isEmpty())
+        {
+            final List<String> keyColumnNames = new ArrayList<>();
+            for (final Column primaryKeyColumn : table.primaryKeyList)
+            {
+                keyColumnNames.add(primaryKeyColumn.name);
+            }
+            checkKeyContainsPartitionColumns(
+                    table,
+                    "primary key",
+                    keyColumnNames,
+                    partitionColumnNames);
+        }
+        for (final Unique unique : table.uniqueList)
+        {
+            final List<String> keyColumnNames = new ArrayList<>();
+            for (final UniqueColumn uniqueColumn : unique.uniqueColumnList)
+            {
+                keyColumnNames.add(uniqueColumn.name);
+            }
+            checkKeyContainsPartitionColumns(
+                    table,
+                    "unique constraint " + unique.name,
+                    keyColumnNames,
+                    partitionColumnNames);
+        }
+
+        partition.partitionColumnNames
+                = StringUtils.join(partitionColumnNames, ", ");
+        partition.functionName = table.unqualifiedName + "_PF";
+        partition.schemeName = table.unqualifiedName + "_PS";
+        final Platform platform = getPlatform(controllerState);
+        partition.columnSqlType = getSqlTypeName(
+                getSqlType(partitionColumns.get(0), controllerState),
+                platform);
+
+        final List<PartitionDefinition> definitions = new ArrayList<>();
+        if (partition.interval != null)
+        {
+            if (!PARTITION_STRATEGY_RANGE.equals(strategy)
+                    || partitionColumns.size() != 1)
+            {
+                throw new SourceTransformerException("The partition interval"
+                        + " of table "
+                        + table.name
+                        + " can only be used for range partitioning"
+                        + " on one column");
+            }
+            generateIntervalPartitions(
+                    partition,
+                    partitionColumns.get(0),
+                    definitions,
+                    controllerState);
+        }
+        if (partition.partitions != null)
+        {
+            if (!PARTITION_STRATEGY_HASH.equals(strategy)
+                    || !partition.partitionDefinitionList.isEmpty())
+            {
+                throw new SourceTransformerException("The number of"
+                        + " partitions of table "
+                        + table.name
+                        + " can only be set for hash partitioning"
+                        + " without partition definitions");
+            }
+            for (int i = 0; i < partition.partitions; ++i)
+            {
+                definitions.add(createPartitionDefinition(
+                        partition,
+                        table.unqualifiedName + "_P" + i,
+                        null));
+            }
+        }
+        definitions.addAll(partition.partitionDefinitionList);
+        if (definitions.isEmpty())
+        {
+            throw new SourceTransformerException("The partition of table "
+                    + table.name
+                    + " defines no partitions");
+        }
+        partition.partitionDefinitionList = definitions;
+
+        PartitionDefinition previous = null;
+        int remainder = 0;
+        for (final PartitionDefinition definition : definitions)
+        {
+            if (StringUtils.isBlank(definition.name))
+            {
+                throw new SourceTransformerException("A partition definition"
+                        + " of table "
+                        + table.name
+                        + " has no name");
+            }
+            if (PARTITION_STRATEGY_HASH.equals(strategy))
+            {
+                definition.modulus = definitions.size();
+                definition.remainder = remainder;
+                ++remainder;
+                continue;
+            }
+            final String[] values = StringUtils.stripAll(
+                    StringUtils.split(definition.values, ','));
+            if (values == null || values.length == 0)
+            {
+                throw new SourceTransformerException("The partition "
+                        + definition.name
+                        + " of table "
+                        + table.name
+                        + " has no values");
+            }
+            if (PARTITION_STRATEGY_LIST.equals(strategy))
+            {
+                final List<String> sqlValues = new ArrayList<>();
+                for (final String value : values)
+                {
+                    sqlValues.add(getPartitionSqlValue(
+                            partitionColumns.get(0),
+                            value,
+                            controllerState));
+                }
+                definition.sqlValues = StringUtils.join(sqlValues, ", ");
+                continue;
+            }
+
+            if (values.length != partitionColumns.size())
+            {
+                throw new SourceTransformerException("The partition "
+                        + definition.name
+                        + " of table "
+                        + table.name
+                        + " must have one value per partition column");
+            }
+            if (previous != null && previous.maxValue)
+            {
+                throw new SourceTransformerException("The partition "
+                        + definition.name
+                        + " of table "
+                        + table.name
+                        + " follows a partition without upper bound");
+            }
+            final List<String> sqlValues = new ArrayList<>();
+            final List<String> minValues = new ArrayList<>();
+            definition.maxValue = true;
+            for (int i = 0; i < values.length; ++i)
+            {
+                if (MAXVALUE.equalsIgnoreCase(values[i]))
+                {
+                    sqlValues.add(MAXVALUE);
+                }
+                else
+                {
+                    sqlValues.add(getPartitionSqlValue(
+                            partitionColumns.get(i),
+                            values[i],
+                            controllerState));
+                    definition.maxValue = false;
+                }
+                minValues.add(MINVALUE);
+            }
+            definition.sqlValues = StringUtils.join(sqlValues, ", ");
+            definition.sqlLowerBound = previous == null
+                    ? StringUtils.join(minValues, ", ")
+                    : previous.sqlValues;
+            previous = definition;
+        }
+
+        if (!platform.supportsPartitioning(strategy, partitionColumns.size()))
+        {
+            log.warn("The "
+                    + strategy
+                    + " partitioning of table "
+                    + table.name
+                    + " is not supported by the database "
+                    + controllerState.getStringOption(
+                            TemplateOptionName.DATABASE)
+                    + ", the table is created without partitions");
+            table.partition = null;
+        }
+    }
+
+    /**
+     * Generates the range partitions between start and end of a partition
+     * in steps of the partition interval.
+     *
+     * @param partition the partitioning of the table, not null.
+     * @param column the partition column, not null.
+     * @param definitions the list to which the generated partition
+     *        definitions are added, not null.
+     * @param controllerState the current controller state, not null.
+     *
+     * @throws SourceTransformerException if interval, start or end
+     *         are invalid.
+     */
+    private void generateIntervalPartitions(
+            final Partition partition,
+            final Column column,
+            final List<PartitionDefinition> definitions,
+            final ControllerState controllerState)
+                    throws SourceTransformerException
+    {
+        final Table table = partition.parent;
+        if (partition.start == null || partition.end == null)
+        {
+            throw new SourceTransformerException("The partition interval"
+                    + " of table "
+                    + table.name
+                    + " requires start and end");
+        }
+        final String[] intervalParts = StringUtils.split(partition.interval);
+        if (intervalParts == null || intervalParts.length > 2)
+        {
+            throw new SourceTransformerException("Invalid partition interval "
+                    + partition.interval
+                    + " on table "
+                    + table.name);
+        }
+        final SchemaType schemaType = SchemaTypeHelper.getSchemaType(
+                column,
+                controllerState);
+        final String unit = intervalParts.length == 2
+                ? StringUtils.removeEnd(
+                        StringUtils.upperCase(intervalParts[1]), "S")
+                : null;
+        final int count;
+        try
+        {
+            count = Integer.parseInt(intervalParts[0]);
+        }
+        catch (final NumberFormatException e)
+        {
+            throw new SourceTransformerException("Invalid partition interval "
+                    + partition.interval
+                    + " on table "
+                    + table.name,
+                    e);
+        }
+        if (count <= 0)
+        {
+            throw new SourceTransformerException("The partition interval "
+                    + partition.interval
+                    + " on table "
+                    + table.name
+                    + " must be positive");
+        }
+
+        if (SchemaType.DATE == schemaType
+                || SchemaType.TIMESTAMP == schemaType)
+        {
+            final int calendarField;
+            final String namePattern;
+            if ("DAY".equals(unit))
+            {
+                calendarField = Calendar.DAY_OF_MONTH;
+                namePattern = "yyyyMMdd";
+                partition.intervalCount = count;
+            }
+            else if ("WEEK".equals(unit))
+            {
+                calendarField = Calendar.WEEK_OF_YEAR;
+                namePattern = "yyyyMMdd";
+                partition.intervalCount = 7 * count;
+            }
+            else if ("MONTH".equals(unit))
+            {
+                calendarField = Calendar.MONTH;
+                namePattern = "yyyyMM";
+                partition.intervalCount = count;
+            }
+            else if ("YEAR".equals(unit))
+            {
+                calendarField = Calendar.YEAR;
+                namePattern = "yyyy";
+                partition.intervalCount = count;
+            }
+            else
+            {
+                throw new SourceTransformerException("The partition interval "
+                        + partition.interval
+                        + " on table "
+                        + table.name
+                        + " must have the unit day, week, month or year");
+            }
+            partition.intervalUnit = "WEEK".equals(unit) ? "DAY" : unit;
+
+            final TimeZone gmt = TimeZone.getTimeZone("GMT");
+            final SimpleDateFormat nameFormat
+                    = new SimpleDateFormat(namePattern);
+            nameFormat.setTimeZone(gmt);
+            final SimpleDateFormat valueFormat
+                    = new SimpleDateFormat(SCHEMA_DATE_FORMAT);
+            valueFormat.setTimeZone(gmt);
+            final Date end = OMColumnJavaTransformer.getDefaultValueAsDate(
+                    toSchemaDate(partition.end));
+            final Calendar calendar = Calendar.getInstance(gmt);
+            calendar.setTime(OMColumnJavaTransformer.getDefaultValueAsDate(
+                    toSchemaDate(partition.start)));
+            while (calendar.getTime().before(end))
+            {
+                final String name = table.unqualifiedName
+                        + "_P" + nameFormat.format(calendar.getTime());
+                calendar.add(calendarField, count);
+                definitions.add(createPartitionDefinition(
+                        partition,
+                        name,
+                        valueFormat.format(calendar.getTime())));
+                checkGeneratedPartitionCount(table, definitions);
+            }
+        }
+        else if (!TypeMap.isTextType(schemaType)
+                && SchemaType.TIME != schemaType
+                && unit == null)
+        {
+            final long start;
+            final long end;
+            try
+            {
+                start = Long.parseLong(partition.start.trim());
+                end = Long.parseLong(partition.end.trim());
+            }
+            catch (final NumberFormatException e)
+            {
+                throw new SourceTransformerException("Start and end"
+                        + " of the partition interval of table "
+                        + table.name
+                        + " must be integers",
+                        e);
+            }
+            partition.intervalCount = count;
+            for (long lower = start; lower < end; lower += count)
+            {
+                definitions.add(createPartitionDefinition(
+                        partition,
+                        table.unqualifiedName + "_P"
+                            + Long.toString(lower).replace('-', 'M'),
+                        Long.toString(lower + count)));
+                checkGeneratedPartitionCount(table, definitions);
+            }
+        }
+        else
+        {
+            throw new SourceTransformerException("The partition interval "
+                    + partition.interval
+                    + " on table "
+                    + table.name
+                    + " is not valid for the type of column "
+                    + column.name);
+        }
+        if (definitions.isEmpty())
+        {
+            throw new SourceTransformerException("The start of the partition"
+                    + " interval of table "
+                    + table.name
+                    + " must be before its end");
+        }
+    }
+
+    /**
+     * Checks that not too many partitions are generated from an interval.
+     *
+     * @param table the partitioned table, not null.
+     * @param definitions the generated partition definitions, not null.
+     *
+     * @throws SourceTransformerException if too many partitions
+     *         are generated.
+     */
+    private void checkGeneratedPartitionCount(
+            final Table table,
+            final List<PartitionDefinition> definitions)
+                    throws SourceTransformerException
+    {
+        if (definitions.size() > MAX_GENERATED_PARTITIONS)
+        {
+            throw new SourceTransformerException("The partition interval"
+                    + " of table "
+                    + table.name
+                    + " generates more than "
+                    + MAX_GENERATED_PARTITIONS
+                    + " partitions");
+        }
+    }
+
+    /**
+     * Creates a partition definition.
+     *
+     * @param partition the partition to which the definition belongs.
+     * @param name the name of the partition.
+     * @param values the values of the partition, or null.
+     *
+     * @return the partition definition, not null.
+     */
+    private PartitionDefinition createPartitionDefinition(
+            final Partition partition,
+            final String name,
+            final String values)
+    {
+        final PartitionDefinition definition = new PartitionDefinition();
+        definition.parent = partition;
+        definition.name = name;
+        definition.values = values;
+        return definition;
+    }
+
+    /**
+     * Checks that a primary key or unique constraint contains
+     * all partition columns.
+     *
+     * @param table the partitioned table, not null.
+     * @param keyDescription the description of the key for error messages.
+     * @param keyColumnNames the names of the key columns, not null.
+     * @param partitionColumnNames the names of the partition columns,
+     *        not null.
+     *
+     * @throws SourceTransformerException if a partition column
+     *         is not contained in the key.
+     */
+    private void checkKeyContainsPartitionColumns(
+            final Table table,
+            final String keyDescription,
+            final List<String> keyColumnNames,
+            final List<String> partitionColumnNames)
+                    throws SourceTransformerException
+    {
+        for (final String partitionColumnName : partitionColumnNames)
+        {
+            if (!keyColumnNames.contains(partitionColumnName))
+            {
+                throw new SourceTransformerException("The "
+                        + keyDescription
+                        + " of the partitioned table "
+                        + table.name
+                        + " must contain the partition column "
+                        + partitionColumnName);
+            }
+        }
+    }
+
+    /**
+     * Converts a value of a partition definition to a SQL literal.
+     * Dates may also be given without time.
+     *
+     * @param column the partition column, not null.
+     * @param value the value, not null.
+     * @param controllerState the current controller state, not null.
+     *
+     * @return the SQL literal, not null.
+     *
+     * @throws SourceTransformerException if the value cannot be converted.
+     */
+    private String getPartitionSqlValue(
+            final Column column,
+            final String value,
+            final ControllerState controllerState)
+                    throws SourceTransformerException
+    {
+        final SchemaType schemaType = SchemaTypeHelper.getSchemaType(
+                column,
+                controllerState);
+        if (SchemaType.DATE == schemaType
+                || SchemaType.TIMESTAMP == schemaType)
+        {
+            return getSqlValue(column, toSchemaDate(value), controllerState);
+        }
+        return getSqlValue(column, value, controllerState);
+    }
+
+    /**
+     * Appends the time to a date given as yyyy-MM-dd, so that it can
+     * be parsed as column default value.
+     *
+     * @param value the date, not null.
+     *
+     * @return the date including time, not null.
+     */
+    private String toSchemaDate(final String value)
+    {
+        final String trimmed = value.trim();
+        if (trimmed.length() == "yyyy-MM-dd".length())
+        {
+            return trimmed + " 00:00:00.0";
+        }
+        return trimmed;
+    }
+
+    /**
+     * Finds a column of a table by name.
+     *
+     * @param table the table, not null.
+     * @param name the name of the column.
+     *
+     * @return the column, or null if the table has no column with this name.
+     */
+    private Column findColumn(final Table table, final String name)
+    {
+        for (final Column column : table.columnList)
+        {
+            if (column.name.equals(name))
+            {
+                return column;
+            }
+        }
+        return null;
+    }
+
     private void addDatabaseSchemaElements(
             final Database database,
             final ControllerState controllerState)
@@ -459,7 +1120,30 @@ public class SQLModelTransformer implements SourceTransformer
         {
             return;
         }
-        Column column = enumValue.parent;
+        enumValue.sqlValue = getSqlValue(
+                enumValue.parent,
+                enumValue.value,
+                controllerState);
+    }
+
+    /**
+     * Converts a value of a column in the schema file to a SQL literal.
+     *
+     * @param column the column the value belongs to, not null.
+     * @param value the value, dates in the format of column default values.
+     * @param controllerState the current controller state, not null.
+     *
+     * @return the SQL literal, not null.
+     *
+     * @throws SourceTransformerException if the type of the column
+     *         is unknown or if a date cannot be parsed.
+     */
+    private String getSqlValue(
+            final Column column,
+            final String value,
+            final ControllerState controllerState)
+                    throws SourceTransformerException
+    {
         SchemaType schemaType = SchemaTypeHelper.getSchemaType(
                 column,
                 controllerState);
@@ -470,28 +1154,22 @@ public class SQLModelTransformer implements SourceTransformer
                 || SchemaType.TIMESTAMP == schemaType))
         {
             Date defaultDate
-            = OMColumnJavaTransformer.getDefaultValueAsDate(enumValue.value);
+            = OMColumnJavaTransformer.getDefaultValueAsDate(value);
             if (SchemaType.DATE == schemaType)
             {
-                enumValue.sqlValue = platform.getDateString(defaultDate);
+                return platform.getDateString(defaultDate);
             }
             else if (SchemaType.TIME == schemaType)
             {
-                enumValue.sqlValue = platform.getTimeString(defaultDate);
-            }
-            else
-            {
-                enumValue.sqlValue = platform.getTimestampString(defaultDate);
+                return platform.getTimeString(defaultDate);
             }
+            return platform.getTimestampString(defaultDate);
         }
         else if (TypeMap.isTextType(schemaType))
         {
-            enumValue.sqlValue = platform.quoteAndEscape(enumValue.value);
-        }
-        else
-        {
-            enumValue.sqlValue = enumValue.value;
+            return platform.quoteAndEscape(value);
         }
+        return value;
     }
 
 }
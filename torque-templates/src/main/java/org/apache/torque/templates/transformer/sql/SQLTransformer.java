@@ -34,6 +34,7 @@ import org.apache.torque.templates.TemplateOptionName;
 import org.apache.torque.templates.TorqueSchemaAttributeName;
 import org.apache.torque.templates.TorqueSchemaElementName;
 import org.apache.torque.templates.TorqueSchemaIdMethod;
+import org.apache.torque.templates.TorqueSchemaIdMethodParameterName;
 import org.apache.torque.templates.platform.Platform;
 import org.apache.torque.templates.platform.PlatformFactory;
 import org.apache.torque.templates.transformer.CollectAttributeSetTrueTransformer;
@@ -144,17 +145,36 @@ public class SQLTransformer implements SourceTransformer
                     SqlAttributeName.PRIMARY_KEY_CONSTRAINT_NAME,
                     primaryKeyConstraintName);
         }
-        if (tableElement.getAttribute(SqlAttributeName.SEQUENCE_NAME)
-                == null)
+        String sequenceName = null;
+        int allocationSize = 1;
+        int cacheSize = 0;
+        for (SourceElement idMethodParameterElement : tableElement.getChildren(
+                TorqueSchemaElementName.ID_METHOD_PARAMETER))
         {
-            String sequenceName = null;
-            SourceElement idMethodParameterElement = tableElement.getChild(
-                    TorqueSchemaElementName.ID_METHOD_PARAMETER);
-            if (idMethodParameterElement != null)
+            String parameterName = (String) idMethodParameterElement.getAttribute(
+                    TorqueSchemaAttributeName.NAME);
+            String parameterValue = (String) idMethodParameterElement.getAttribute(
+                    TorqueSchemaAttributeName.VALUE);
+            if (TorqueSchemaIdMethodParameterName.ALLOCATION_SIZE.getName()
+                    .equals(parameterName))
+            {
+                allocationSize = TorqueSchemaIdMethodParameterName.ALLOCATION_SIZE
+                        .parseValue(parameterValue, tableName);
+            }
+            else if (TorqueSchemaIdMethodParameterName.CACHE_SIZE.getName()
+                    .equals(parameterName))
+            {
+                cacheSize = TorqueSchemaIdMethodParameterName.CACHE_SIZE
+                        .parseValue(parameterValue, tableName);
+            }
+            else if (sequenceName == null)
             {
-                sequenceName = (String) idMethodParameterElement.getAttribute(
-                        TorqueSchemaAttributeName.VALUE);
+                sequenceName = parameterValue;
             }
+        }
+        if (tableElement.getAttribute(SqlAttributeName.SEQUENCE_NAME)
+                == null)
+        {
             if (StringUtils.isBlank(sequenceName))
             {
                 sequenceName = tableName + "_SEQ";
@@ -163,6 +183,12 @@ public class SQLTransformer implements SourceTransformer
                     SqlAttributeName.SEQUENCE_NAME,
                     sequenceName);
         }
+        tableElement.setAttribute(
+                SqlAttributeName.SEQUENCE_ALLOCATION_SIZE,
+                Integer.toString(allocationSize));
+        tableElement.setAttribute(
+                SqlAttributeName.SEQUENCE_CACHE_SIZE,
+                Integer.toString(cacheSize));
 
         // primary keys
         collectAttributeSetTrueTransformer.transform(
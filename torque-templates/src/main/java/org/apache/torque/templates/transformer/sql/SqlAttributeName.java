@@ -80,6 +80,19 @@ public enum SqlAttributeName implements SourceAttributeName
      */
     SEQUENCE_NAME("sequenceName"),
 
+    /**
+     * The attribute contains the number of values the sequence
+     * of the table is incremented by, i.e. the number of keys
+     * allocated at once.
+     */
+    SEQUENCE_ALLOCATION_SIZE("sequenceAllocationSize"),
+
+    /**
+     * The attribute contains the number of sequence values the database
+     * keeps in memory, or 0 if the values are not cached.
+     */
+    SEQUENCE_CACHE_SIZE("sequenceCacheSize"),
+
     /**
      * The attribute contains the SQL to define the column.
      */
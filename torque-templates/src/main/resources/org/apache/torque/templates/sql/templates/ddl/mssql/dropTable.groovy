@@ -22,7 +22,7 @@ TorqueGenGroovy torqueGenGroovy = (TorqueGenGroovy) torqueGen
 Table table = torqueGenGroovy.model
 int counter = torqueGenGroovy.counter;
 
-return """\
+String result = """\
 IF EXISTS (SELECT 1 FROM sysobjects WHERE type = 'U' AND name = '$table.unqualifiedName')
 BEGIN
      DECLARE @reftable_${counter} nvarchar(60), @constraintname_${counter} nvarchar(60)
@@ -48,4 +48,16 @@ BEGIN
      DROP TABLE $table.name
 END
 ;
-"""
\ No newline at end of file
+"""
+if (table.partition != null)
+{
+    result += """\
+IF EXISTS (SELECT 1 FROM sys.partition_schemes WHERE name = '${table.partition.schemeName}')
+    DROP PARTITION SCHEME ${table.partition.schemeName}
+;
+IF EXISTS (SELECT 1 FROM sys.partition_functions WHERE name = '${table.partition.functionName}')
+    DROP PARTITION FUNCTION ${table.partition.functionName}
+;
+"""
+}
+return result
@@ -35,10 +35,10 @@ def result = """
 /* ----------------------------------------------------------------------- */
 /* $table.name                                                */
 /* ----------------------------------------------------------------------- */
-CREATE TABLE $table.name
+${torqueGenGroovy.mergepoint("partitionScheme")}CREATE TABLE $table.name
 (
 ${createTableSql}
-)
+)${torqueGenGroovy.mergepoint("partition")}
 ${torqueGenGroovy.mergepoint("createOptions")}
 ;
 ${index}
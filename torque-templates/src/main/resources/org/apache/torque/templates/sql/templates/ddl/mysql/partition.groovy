@@ -0,0 +1,63 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License. 
+//
+// Creates the partition clause of a partitioned table.
+//
+import org.apache.torque.generator.template.groovy.TorqueGenGroovy
+import org.apache.torque.templates.model.Partition
+import org.apache.torque.templates.model.Table
+
+TorqueGenGroovy torqueGenGroovy = torqueGen
+Table table = torqueGenGroovy.model
+Partition partition = table.partition
+if (partition != null)
+{
+    String partitionBy
+    List<String> partitions = []
+    for (definition in partition.partitionDefinitionList)
+    {
+        if (partition.strategy == "range")
+        {
+            partitions << "    PARTITION ${definition.name} VALUES LESS THAN (${definition.sqlValues})"
+        }
+        else if (partition.strategy == "list")
+        {
+            partitions << "    PARTITION ${definition.name} VALUES IN (${definition.sqlValues})"
+        }
+        else
+        {
+            partitions << "    PARTITION ${definition.name}"
+        }
+    }
+    if (partition.strategy == "range")
+    {
+        partitionBy = "RANGE COLUMNS(${partition.partitionColumnNames})"
+    }
+    else if (partition.strategy == "list")
+    {
+        partitionBy = "LIST COLUMNS(${partition.partitionColumnNames})"
+    }
+    else
+    {
+        partitionBy = "KEY (${partition.partitionColumnNames})"
+    }
+    return """
+PARTITION BY ${partitionBy}
+(
+${partitions.join(",\n")}
+)"""
+}
@@ -36,8 +36,8 @@ def result = """
 # -----------------------------------------------------------------------
 CREATE TABLE $table.name
 (
-${createTableSql}${torqueGenGroovy.mergepoint("createOptions")}
-);
+${createTableSql}
+)${torqueGenGroovy.mergepoint("createOptions")}${torqueGenGroovy.mergepoint("partition")};
 
 """
 
@@ -24,6 +24,11 @@ Table table = torqueGenGroovy.model
 
 if (table.idMethod == "native")
 {
-    return """CREATE SEQUENCE $table.sequenceName INCREMENT BY 1 START WITH 1 NOMAXVALUE NOCYCLE NOCACHE ORDER;
+    if (table.sequenceCacheSize > 1)
+    {
+        return """CREATE SEQUENCE $table.sequenceName INCREMENT BY $table.sequenceAllocationSize START WITH 1 NOMAXVALUE NOCYCLE CACHE $table.sequenceCacheSize NOORDER;
+"""
+    }
+    return """CREATE SEQUENCE $table.sequenceName INCREMENT BY $table.sequenceAllocationSize START WITH 1 NOMAXVALUE NOCYCLE NOCACHE ORDER;
 """
 }
@@ -39,7 +39,7 @@ def result = """
 CREATE TABLE $table.name
 (
 ${createTableSql}${torqueGenGroovy.mergepoint("createOptions")}
-);
+)${torqueGenGroovy.mergepoint("partition")};
 
 ${pk}
 ${index}
@@ -23,6 +23,11 @@ Table table = torqueGenGroovy.model
 
 if (table.idMethod == "native")
 {
-    return """CREATE SEQUENCE $table.sequenceName INCREMENT BY 1 START WITH 1 NO MAXVALUE NO CYCLE;
+    if (table.sequenceCacheSize > 0)
+    {
+        return """CREATE SEQUENCE $table.sequenceName INCREMENT BY $table.sequenceAllocationSize START WITH 1 NO MAXVALUE NO CYCLE CACHE $table.sequenceCacheSize;
+"""
+    }
+    return """CREATE SEQUENCE $table.sequenceName INCREMENT BY $table.sequenceAllocationSize START WITH 1 NO MAXVALUE NO CYCLE;
 """
 }
@@ -36,8 +36,8 @@ def result = """
 CREATE TABLE $table.name
 (
 ${createTableSql}
-);
-
+)${torqueGenGroovy.mergepoint("partition")};
+${torqueGenGroovy.mergepoint("partitions")}
 ${torqueGenGroovy.mergepoint("index")}
 ${torqueGenGroovy.mergepoint("sequence")}"""
 
@@ -27,6 +27,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,6 +35,13 @@ import java.util.Map;
 import java.util.Set;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
 import org.apache.torque.generator.configuration.UnitDescriptor;
 import org.apache.torque.generator.configuration.option.MapOptionsConfiguration;
 import org.apache.torque.generator.configuration.paths.CustomProjectPaths;
@@ -44,7 +52,9 @@ import org.apache.torque.generator.control.Controller;
 import org.apache.torque.generator.file.Fileset;
 import org.apache.torque.generator.source.SourceProvider;
 import org.apache.torque.generator.source.stream.FileSourceProvider;
+import org.apache.torque.templates.transformer.sql.SQLModelTransformer;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +65,9 @@ public class TestProcessing
 {
   private static final String SCHEMA_DIR = "src/test/schema";
 
+  /** Contains schemata with invalid partitions. */
+  private static final String PARTITION_SCHEMA_DIR = "src/test/partition-schema";
+
   @BeforeEach
   public void setUp()
      throws Exception
@@ -394,6 +407,122 @@ public class TestProcessing
     assertFalse(generationFolder2.exists());
   }
 
+  /**
+   * Checks that the partitioning is dropped with a warning
+   * on databases which do not support it.
+   */
+  @ParameterizedTest
+  @ValueSource(strings =
+  {
+    "hsqldb", "derby"
+  })
+  public void testSqlDdlPartitionNotSupported(String dbType)
+     throws Exception
+  {
+    final WarnAppender appender = new WarnAppender();
+    appender.start();
+    final Logger logger = (Logger) LogManager.getLogger(SQLModelTransformer.class);
+    logger.addAppender(appender);
+    try
+    {
+      generateSqlDdl(dbType, SCHEMA_DIR, "schema.xml");
+    }
+    finally
+    {
+      logger.removeAppender(appender);
+      appender.stop();
+    }
+
+    assertTrue(appender.getWarnings().contains(
+       "The range partitioning of table partitioned is not supported by the database "
+       + dbType + ", the table is created without partitions"),
+       appender.getWarnings().toString());
+    final String ddl = FileUtils.readFileToString(
+       new File("target/generated-sql/schema.sql"),
+       StandardCharsets.ISO_8859_1);
+    assertTrue(ddl.contains("CREATE TABLE partitioned"));
+    assertFalse(ddl.contains("PARTITION"));
+  }
+
+  @Test
+  public void testSqlDdlPartitionPrimaryKeyWithoutPartitionColumn()
+     throws Exception
+  {
+    assertPartitionInvalid(
+       "pk-schema.xml",
+       "The primary key of the partitioned table partition_pk"
+       + " must contain the partition column created");
+  }
+
+  @Test
+  public void testSqlDdlPartitionUniqueWithoutPartitionColumn()
+     throws Exception
+  {
+    assertPartitionInvalid(
+       "unique-schema.xml",
+       "The unique constraint partition_unique_code"
+       + " of the partitioned table partition_unique"
+       + " must contain the partition column partition_unique_id");
+  }
+
+  private void assertPartitionInvalid(
+     final String schemaFile,
+     final String expectedMessage)
+  {
+    final Exception e = assertThrows(
+       Exception.class,
+       () -> generateSqlDdl("postgresql", PARTITION_SCHEMA_DIR, schemaFile));
+    assertTrue(ExceptionUtils.getThrowableList(e).stream()
+       .anyMatch(t -> t.getMessage() != null
+       && t.getMessage().contains(expectedMessage)),
+       ExceptionUtils.getStackTrace(e));
+    assertFalse(new File("target/generated-sql/"
+       + schemaFile.replace(".xml", ".sql")).exists());
+  }
+
+  private void generateSqlDdl(
+     final String dbType,
+     final String sourceDir,
+     final String sourceInclude)
+     throws Exception
+  {
+    final File generationFolder = new File("target/generated-sql");
+    deleteFilesInDirectory(generationFolder);
+
+    final Controller controller = new Controller();
+    final List<UnitDescriptor> unitDescriptors = new ArrayList<>();
+    final Map<String, String> overrideOptions = new HashMap<>();
+    overrideOptions.put("torque.database", dbType);
+    overrideOptions.put(TemplateOptionName.OM_RETAIN_SCHEMA_NAMES_IN_JAVA_NAME.getName(), "false");
+
+    final CustomProjectPaths projectPaths
+       = new CustomProjectPaths(
+          new Maven2DirectoryProjectPaths(new File(".")));
+    projectPaths.setConfigurationDir(
+       new File("src/main/resources/org/apache/torque/templates/sql"));
+    projectPaths.setSourceDir(new File(sourceDir));
+    projectPaths.setOutputDirectory(null, generationFolder);
+    projectPaths.setOutputDirectory(
+       Maven2ProjectPaths.MODIFIABLE_OUTPUT_DIR_KEY,
+       new File("target/generated-sql-2"));
+    final Fileset sourceFileset = new Fileset();
+    final Set<String> sourceIncludes = new HashSet<>();
+    sourceIncludes.add(sourceInclude);
+    sourceFileset.setIncludes(sourceIncludes);
+    sourceFileset.setBasedir(projectPaths.getDefaultSourcePath());
+    final UnitDescriptor unitDescriptor = new UnitDescriptor(
+       UnitDescriptor.Packaging.DIRECTORY,
+       projectPaths,
+       new DefaultTorqueGeneratorPaths());
+    unitDescriptor.setOverrideSourceProvider(
+       new FileSourceProvider(null, sourceFileset, null));
+    unitDescriptor.setOverrideOptions(
+       new MapOptionsConfiguration(overrideOptions));
+    unitDescriptors.add(unitDescriptor);
+
+    controller.run(unitDescriptors);
+  }
+
   private void assertOutput(
      final String expectedFilename,
      final String actualFilename)
@@ -489,4 +618,32 @@ public class TestProcessing
          }
        });
   }
+
+  /**
+   * Collects the warnings logged while it is attached to a logger.
+   */
+  private static class WarnAppender extends AbstractAppender
+  {
+    private final List<String> warnings
+       = Collections.synchronizedList(new ArrayList<>());
+
+    WarnAppender()
+    {
+      super("partitionWarnings", null, null, true, Property.EMPTY_ARRAY);
+    }
+
+    @Override
+    public void append(final LogEvent event)
+    {
+      if(Level.WARN.equals(event.getLevel()))
+      {
+        warnings.add(event.getMessage().getFormattedMessage());
+      }
+    }
+
+    public List<String> getWarnings()
+    {
+      return warnings;
+    }
+  }
 }
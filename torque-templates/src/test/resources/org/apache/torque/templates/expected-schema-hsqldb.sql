@@ -76,6 +76,7 @@ drop table INHERITANCE_TEST if exists;
 drop table ext_schema if exists;
 drop table extext_schema if exists;
 drop table torque.qualified_name if exists;
+drop table partitioned if exists;
 
 DROP SCHEMA torque;
 
@@ -256,6 +257,18 @@ CREATE TABLE torque.qualified_name
     payload VARCHAR(100)
 );
 
+
+-- -----------------------------------------------------------------------
+-- partitioned
+-- -----------------------------------------------------------------------
+CREATE TABLE partitioned
+(
+    partitioned_id INTEGER NOT NULL,
+    created DATE NOT NULL,
+    name VARCHAR(50),
+    PRIMARY KEY(partitioned_id, created)
+);
+
 ALTER TABLE r_ab
     ADD CONSTRAINT r_ab_FK_1
     FOREIGN KEY (a_id)
@@ -19,7 +19,7 @@ insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (103, '
 insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (104, 'b', 1000, 10);
 insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (105, 'b2', 1000, 10);
 insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (106, 'r_ab', 1000, 10);
-insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (107, 'c', 1000, 10);
+insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (107, 'c', 1000, 50);
 insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (108, 'd', 1000, 10);
 insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (109, 'nopk', 1000, 10);
 insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (110, 'MULTIPK_SELF_REFTABLE', 1000, 10);
@@ -29,4 +29,5 @@ insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (113, '
 insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (114, 'ext_schema', 1000, 10);
 insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (115, 'extext_schema', 1000, 10);
 insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (116, 'qualified_name', 1000, 10);
+insert into ID_TABLE (id_table_id, table_name, next_id, quantity) VALUES (117, 'partitioned', 1000, 10);
 
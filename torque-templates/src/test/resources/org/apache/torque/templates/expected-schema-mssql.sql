@@ -437,6 +437,37 @@ BEGIN
      DROP TABLE torque.qualified_name
 END
 ;
+IF EXISTS (SELECT 1 FROM sysobjects WHERE type = 'U' AND name = 'partitioned')
+BEGIN
+     DECLARE @reftable_17 nvarchar(60), @constraintname_17 nvarchar(60)
+     DECLARE refcursor CURSOR FOR
+     select reftables.name tablename, cons.name constraintname
+      from sysobjects tables,
+           sysobjects reftables,
+           sysobjects cons,
+           sysreferences ref
+       where tables.id = ref.rkeyid
+         and cons.id = ref.constid
+         and reftables.id = ref.fkeyid
+         and tables.name = 'partitioned'
+     OPEN refcursor
+     FETCH NEXT from refcursor into @reftable_17, @constraintname_17
+     while @@FETCH_STATUS = 0
+     BEGIN
+       exec ('alter table '+@reftable_17+' drop constraint '+@constraintname_17)
+       FETCH NEXT from refcursor into @reftable_17, @constraintname_17
+     END
+     CLOSE refcursor
+     DEALLOCATE refcursor
+     DROP TABLE partitioned
+END
+;
+IF EXISTS (SELECT 1 FROM sys.partition_schemes WHERE name = 'partitioned_PS')
+    DROP PARTITION SCHEME partitioned_PS
+;
+IF EXISTS (SELECT 1 FROM sys.partition_functions WHERE name = 'partitioned_PF')
+    DROP PARTITION FUNCTION partitioned_PF
+;
 
 DROP SCHEMA torque;
 
@@ -644,6 +675,27 @@ CREATE TABLE torque.qualified_name
 
 ;
 
+
+/* ----------------------------------------------------------------------- */
+/* partitioned                                                */
+/* ----------------------------------------------------------------------- */
+CREATE PARTITION FUNCTION partitioned_PF (DATE)
+    AS RANGE RIGHT FOR VALUES ('20240201 00:00:00', '20240301 00:00:00')
+;
+CREATE PARTITION SCHEME partitioned_PS
+    AS PARTITION partitioned_PF ALL TO ([PRIMARY])
+;
+CREATE TABLE partitioned
+(
+    partitioned_id INT NOT NULL,
+    created DATE NOT NULL,
+    name VARCHAR(50) NULL,
+    CONSTRAINT partitioned_PK PRIMARY KEY(partitioned_id, created)
+)
+ON partitioned_PS (created)
+
+;
+
 BEGIN
 ALTER TABLE r_ab
     ADD CONSTRAINT r_ab_FK_1
@@ -37,6 +37,7 @@ drop table if exists INHERITANCE_TEST;
 drop table if exists ext_schema;
 drop table if exists extext_schema;
 drop table if exists torque.qualified_name;
+drop table if exists partitioned;
 
 # -----------------------------------------------------------------------
 # a
@@ -214,6 +215,23 @@ CREATE TABLE torque.qualified_name
     payload VARCHAR(100)
 );
 
+
+# -----------------------------------------------------------------------
+# partitioned
+# -----------------------------------------------------------------------
+CREATE TABLE partitioned
+(
+    partitioned_id INTEGER NOT NULL,
+    created DATE NOT NULL,
+    name VARCHAR(50),
+    PRIMARY KEY(partitioned_id, created)
+)
+PARTITION BY RANGE COLUMNS(created)
+(
+    PARTITION partitioned_P202401 VALUES LESS THAN ('2024-02-01'),
+    PARTITION partitioned_P202402 VALUES LESS THAN ('2024-03-01')
+);
+
 ALTER TABLE r_ab
     ADD CONSTRAINT r_ab_FK_1
     FOREIGN KEY (a_id)
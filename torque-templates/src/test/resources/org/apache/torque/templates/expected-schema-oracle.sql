@@ -82,6 +82,7 @@ DROP TABLE extext_schema CASCADE CONSTRAINTS;
 DROP SEQUENCE extext_schema_SEQ;
 DROP TABLE torque.qualified_name CASCADE CONSTRAINTS;
 DROP SEQUENCE torque.qualified_name_SEQ;
+DROP TABLE partitioned CASCADE CONSTRAINTS;
 
 -- -----------------------------------------------------------------------
 -- a
@@ -178,7 +179,7 @@ ALTER TABLE c
     PRIMARY KEY(c_id);
 
 
-CREATE SEQUENCE c_SEQ INCREMENT BY 1 START WITH 1 NOMAXVALUE NOCYCLE NOCACHE ORDER;
+CREATE SEQUENCE c_SEQ INCREMENT BY 50 START WITH 1 NOMAXVALUE NOCYCLE CACHE 20 NOORDER;
 
 
 -- -----------------------------------------------------------------------
@@ -333,6 +334,29 @@ CREATE TABLE torque.qualified_name
 
 CREATE SEQUENCE torque.qualified_name_SEQ INCREMENT BY 1 START WITH 1 NOMAXVALUE NOCYCLE NOCACHE ORDER;
 
+
+-- -----------------------------------------------------------------------
+-- partitioned
+-- -----------------------------------------------------------------------
+CREATE TABLE partitioned
+(
+    partitioned_id NUMBER(10,0) NOT NULL,
+    created DATE NOT NULL,
+    name VARCHAR2(50 CHAR)
+)
+PARTITION BY RANGE (created)
+INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+(
+    PARTITION partitioned_P202401 VALUES LESS THAN (to_date('2024-02-01','yyyy-mm-dd')),
+    PARTITION partitioned_P202402 VALUES LESS THAN (to_date('2024-03-01','yyyy-mm-dd'))
+);
+
+ALTER TABLE partitioned
+    ADD CONSTRAINT partitioned_PK
+    PRIMARY KEY(partitioned_id, created);
+
+
+
 ALTER TABLE r_ab
     ADD CONSTRAINT r_ab_FK_1
     FOREIGN KEY (a_id)
@@ -82,6 +82,7 @@ DROP TABLE extext_schema CASCADE;
 DROP SEQUENCE extext_schema_SEQ;
 DROP TABLE torque.qualified_name CASCADE;
 DROP SEQUENCE torque.qualified_name_SEQ;
+DROP TABLE partitioned CASCADE;
 
 DROP SCHEMA torque;
 
@@ -162,7 +163,7 @@ CREATE TABLE c
 );
 
 
-CREATE SEQUENCE c_SEQ INCREMENT BY 1 START WITH 1 NO MAXVALUE NO CYCLE;
+CREATE SEQUENCE c_SEQ INCREMENT BY 50 START WITH 1 NO MAXVALUE NO CYCLE CACHE 20;
 
 -- -----------------------------------------------------------------------
 -- d
@@ -284,6 +285,25 @@ CREATE TABLE torque.qualified_name
 
 
 CREATE SEQUENCE torque.qualified_name_SEQ INCREMENT BY 1 START WITH 1 NO MAXVALUE NO CYCLE;
+
+-- -----------------------------------------------------------------------
+-- partitioned
+-- -----------------------------------------------------------------------
+CREATE TABLE partitioned
+(
+    partitioned_id INTEGER NOT NULL,
+    created DATE NOT NULL,
+    name VARCHAR(50),
+    PRIMARY KEY(partitioned_id, created)
+) PARTITION BY RANGE (created);
+
+CREATE TABLE partitioned_P202401 PARTITION OF partitioned
+    FOR VALUES FROM (MINVALUE) TO ('2024-02-01 00:00:00');
+
+CREATE TABLE partitioned_P202402 PARTITION OF partitioned
+    FOR VALUES FROM ('2024-02-01 00:00:00') TO ('2024-03-01 00:00:00');
+
+
 ALTER TABLE r_ab
     ADD CONSTRAINT r_ab_FK_1
     FOREIGN KEY (a_id)
@@ -23,19 +23,32 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.torque.criteria.Criteria;
 import org.apache.torque.test.bean.AuthorBean;
 import org.apache.torque.test.bean.BookBean;
+import org.apache.torque.test.bean.GenreBean;
 import org.apache.torque.test.dbobject.Author;
 import org.apache.torque.test.dbobject.Book;
+import org.apache.torque.test.dbobject.Genre;
+import org.apache.torque.test.dbobject.base.QueryMetrics;
+import org.apache.torque.test.dbobject.base.TorqueTableFetcher;
 import org.apache.torque.test.peer.AuthorPeer;
 import org.apache.torque.test.peer.BookPeer;
+import org.apache.torque.test.peer.GenrePeer;
+import org.apache.torque.util.Transaction;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 
@@ -348,4 +361,177 @@ public class BeanTestConditional extends BaseDatabaseTestCase
                 + bookList.size(),
                 bookList.size() == 1);
     }
+
+    /**
+     * Checks that the beans created by getBeansDeep for a list of objects
+     * contain the same graph as the beans created one by one
+     * by getBeanDeep.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testGetBeansDeepEqualsGetBeanDeep() throws Exception
+    {
+        cleanBookstore();
+        insertBookstoreData();
+        Criteria criteria = new Criteria().addAscendingOrderByColumn(BookPeer.BOOK_ID);
+
+        try (Connection connection = Transaction.begin(BookPeer.DATABASE_NAME))
+        {
+            List<BookBean> batched = Book.getBeansDeep(
+                    BookPeer.doSelect(criteria, connection),
+                    new TorqueTableFetcher(),
+                    connection);
+
+            List<BookBean> oneByOne = new ArrayList<>();
+            for (Book book : BookPeer.doSelect(criteria, connection))
+            {
+                oneByOne.add(book.getBeanDeep(new TorqueTableFetcher(), connection));
+            }
+            Transaction.commit(connection);
+
+            assertEquals(oneByOne.size(), batched.size());
+            for (int i = 0; i < oneByOne.size(); i++)
+            {
+                BookBean expected = oneByOne.get(i);
+                BookBean actual = batched.get(i);
+                assertEquals(expected.getBookId(), actual.getBookId());
+                assertEquals(expected.getTitle(), actual.getTitle());
+                assertEquals(expected.getIsbn(), actual.getIsbn());
+                assertEquals(
+                        expected.getAuthorBean().getAuthorId(),
+                        actual.getAuthorBean().getAuthorId());
+                assertEquals(
+                        expected.getAuthorBean().getName(),
+                        actual.getAuthorBean().getName());
+                assertEquals(
+                        getBookIds(expected.getAuthorBean()),
+                        getBookIds(actual.getAuthorBean()));
+            }
+        }
+    }
+
+    /**
+     * Checks that the number of queries issued by getBeansDeep
+     * does not depend on the number of objects.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testGetBeansDeepQueryCount() throws Exception
+    {
+        cleanBookstore();
+        List<Author> authors = insertBookstoreData();
+
+        Criteria fewBooks = new Criteria()
+                .where(BookPeer.AUTHOR_ID, authors.get(0).getAuthorId());
+        long fewBooksQueries = countBeansDeepQueries(fewBooks);
+        long allBooksQueries = countBeansDeepQueries(new Criteria());
+
+        // two levels (book, author) times two relations (book - author)
+        assertTrue("getBeansDeep issued " + allBooksQueries + " queries",
+                allBooksQueries <= 4);
+        assertEquals(fewBooksQueries, allBooksQueries);
+    }
+
+    /**
+     * Checks that objects which share a referenced object, and objects
+     * which reference an object of the same table, are linked to
+     * a single bean of the referenced object.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testGetBeansDeepSharedAndSelfReferences() throws Exception
+    {
+        cleanBookstore();
+        cleanGenres();
+        List<Author> authors = insertBookstoreData();
+
+        Genre root = new Genre();
+        root.setName("Fiction");
+        root.save();
+        Genre child1 = new Genre();
+        child1.setName("Crime");
+        child1.setParentGenreId(root.getGenreId());
+        child1.save();
+        Genre child2 = new Genre();
+        child2.setName("Fantasy");
+        child2.setParentGenreId(root.getGenreId());
+        child2.save();
+
+        try (Connection connection = Transaction.begin(BookPeer.DATABASE_NAME))
+        {
+            Criteria criteria = new Criteria()
+                    .where(BookPeer.AUTHOR_ID, authors.get(0).getAuthorId());
+            List<BookBean> bookBeans = Book.getBeansDeep(
+                    BookPeer.doSelect(criteria, connection),
+                    new TorqueTableFetcher(),
+                    connection);
+
+            AuthorBean authorBean = bookBeans.get(0).getAuthorBean();
+            for (BookBean bookBean : bookBeans)
+            {
+                assertSame(authorBean, bookBean.getAuthorBean());
+                assertEquals(1, authorBean.getBookBeans().stream()
+                        .filter(b -> b == bookBean).count());
+            }
+
+            List<GenreBean> genreBeans = Genre.getBeansDeep(
+                    Arrays.asList(
+                        GenrePeer.retrieveByPK(child1.getPrimaryKey(), connection),
+                        GenrePeer.retrieveByPK(child2.getPrimaryKey(), connection),
+                        GenrePeer.retrieveByPK(root.getPrimaryKey(), connection)),
+                    new TorqueTableFetcher(),
+                    connection);
+            Transaction.commit(connection);
+
+            GenreBean rootBean = genreBeans.get(2);
+            assertNotSame(genreBeans.get(0), genreBeans.get(1));
+            assertSame(rootBean, genreBeans.get(0).getGenreBeanRelatedByParentGenreId());
+            assertSame(rootBean, genreBeans.get(1).getGenreBeanRelatedByParentGenreId());
+        }
+        finally
+        {
+            cleanGenres();
+        }
+    }
+
+    /**
+     * Counts the selects issued by getBeansDeep for the books
+     * matching the passed criteria.
+     */
+    private static long countBeansDeepQueries(Criteria criteria) throws Exception
+    {
+        try (Connection connection = Transaction.begin(BookPeer.DATABASE_NAME))
+        {
+            List<Book> books = BookPeer.doSelect(criteria, connection);
+            QueryMetrics.reset();
+            Book.getBeansDeep(books, new TorqueTableFetcher(), connection);
+            long result = QueryMetrics.getStats("book", QueryMetrics.Operation.SELECT).getCalls()
+                    + QueryMetrics.getStats("author", QueryMetrics.Operation.SELECT).getCalls();
+            Transaction.commit(connection);
+            return result;
+        }
+    }
+
+    private static Set<Integer> getBookIds(AuthorBean authorBean)
+    {
+        Set<Integer> result = new TreeSet<>();
+        if (authorBean.getBookBeans() != null)
+        {
+            for (BookBean bookBean : authorBean.getBookBeans())
+            {
+                result.add(bookBean.getBookId());
+            }
+        }
+        return result;
+    }
+
+    private static void cleanGenres() throws Exception
+    {
+        GenrePeer.doDelete(new Criteria()
+                .where(GenrePeer.PARENT_GENRE_ID, null, Criteria.ISNOTNULL));
+        GenrePeer.doDelete(new Criteria());
+    }
 }
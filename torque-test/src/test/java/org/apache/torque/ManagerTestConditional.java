@@ -25,12 +25,14 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.torque.om.ObjectKey;
+import org.apache.torque.om.SimpleKey;
 import org.apache.torque.test.dbobject.Author;
 import org.apache.torque.test.dbobject.Book;
 import org.apache.torque.test.dbobject.IfcTable;
 import org.apache.torque.test.manager.AuthorManager;
 import org.apache.torque.test.manager.BookManager;
 import org.apache.torque.test.manager.TestInterfaceManager;
+import org.apache.torque.test.manager.base.BaseAuthorManager;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -137,6 +139,52 @@ public class ManagerTestConditional extends BaseDatabaseTestCase
         assertEquals(new ArrayList<Author>(), authors);
     }
 
+    /**
+     * Tests the cache statistics and the caching of non-existing keys
+     * of a manager with a bounded cache.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testCacheStats() throws Exception
+    {
+        cleanBookstore();
+        AuthorManager.clear();
+        AuthorManager.getManager().setRegion("om_Author");
+        AuthorManager.resetCacheStats();
+
+        Author author1 = new Author();
+        author1.setName("author1");
+        author1.save();
+        AuthorManager.clear();
+
+        assertEquals(author1.getName(),
+                AuthorManager.getInstance(author1.getPrimaryKey()).getName());
+        AuthorManager.getInstance(author1.getPrimaryKey());
+
+        ObjectKey<?> missingKey = SimpleKey.keyFor(author1.getAuthorId() + 1000);
+        for (int i = 0; i < 2; ++i)
+        {
+            try
+            {
+                AuthorManager.getInstance(missingKey);
+                fail("NoRowsException expected");
+            }
+            catch (NoRowsException e)
+            {
+                // expected
+            }
+        }
+
+        BaseAuthorManager.CacheStats stats = AuthorManager.getCacheStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getNegativeHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(2, stats.getLoadCount());
+        assertEquals(2, stats.getSize());
+        assertTrue(stats.getTotalLoadTime() > 0);
+    }
+
     /**
      * Tests whether managers return the right interface
      * @throws Exception if the test fails
@@ -54,6 +54,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 
 
 /**
@@ -237,6 +238,40 @@ public class EnumTest extends BaseDatabaseTestCase
     }
 
 
+    /**
+     * Checks the lookup of generated enums by their database values,
+     * for dense integral, primitive and String values.
+     */
+    @Test
+    public void testGetByValue()
+    {
+        assertEquals(MyIntColumnEnum._1, MyIntColumnEnum.getByValue(1));
+        assertEquals(MyIntColumnEnum.TWO, MyIntColumnEnum.getByValue(2));
+        assertEquals(MyIntColumnEnum._3, MyIntColumnEnum.getByValue(3));
+        assertNull(MyIntColumnEnum.getByValue(null));
+        assertNull(MyIntColumnEnum.getByValueOrNull(0));
+        assertNull(MyIntColumnEnum.getByValueOrNull(4));
+        assertNull(MyIntColumnEnum.getByValueOrNull(Integer.MIN_VALUE));
+
+        assertEquals(IntPrimitiveColumnEnum._2,
+                IntPrimitiveColumnEnum.getByValue(2));
+        assertNull(IntPrimitiveColumnEnum.getByValueOrNull(-1));
+
+        assertEquals(VarcharColumnEnum.ZZZ, VarcharColumnEnum.getByValue("z"));
+        assertNull(VarcharColumnEnum.getByValueOrNull("a"));
+        try
+        {
+            VarcharColumnEnum.getByValue("a");
+            fail("Exception expected");
+        }
+        catch (IllegalArgumentException e)
+        {
+            assertEquals(
+                    "Value a is not defined in enum VarcharColumnEnum",
+                    e.getMessage());
+        }
+    }
+
     /**
      * Delete all previous data from the tested tables
      * and re-inserts test data.
@@ -0,0 +1,140 @@
+package org.apache.torque.generated.dataobject;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.criteria.Criteria;
+import org.apache.torque.test.dbobject.Author;
+import org.apache.torque.test.dbobject.Book;
+import org.apache.torque.test.peer.BookPeer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the batch loading of referenced objects via load groups.
+ * The book table has the batchFetchSize attribute set.
+ *
+ * @version $Id: $
+ */
+public class BatchFetchTest extends BaseDatabaseTestCase
+{
+    private List<Author> authorList;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        cleanBookstore();
+        authorList = insertBookstoreData();
+    }
+
+    /**
+     * Checks that all objects read by the same doSelect call
+     * share one load group.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testLoadGroupIsSet() throws Exception
+    {
+        List<Book> books = BookPeer.doSelect(new Criteria());
+
+        assertEquals(100, books.size());
+        List<Book> loadGroup = books.get(0).getLoadGroup();
+        assertNotNull(loadGroup);
+        assertEquals(100, loadGroup.size());
+        for (Book book : books)
+        {
+            assertEquals(books, book.getLoadGroup());
+        }
+    }
+
+    /**
+     * Checks that changes to the list returned by doSelect
+     * do not change the load group of the returned objects.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testLoadGroupIsIndependentOfResultList() throws Exception
+    {
+        List<Book> books = BookPeer.doSelect(new Criteria());
+        // keep the members strongly reachable, the load group does not
+        List<Book> members = new ArrayList<>(books);
+        Book first = books.get(0);
+
+        books.clear();
+
+        List<Book> loadGroup = first.getLoadGroup();
+        assertEquals(100, loadGroup.size());
+        assertTrue(loadGroup.contains(first));
+
+        loadGroup.clear();
+        assertEquals(members, first.getLoadGroup());
+    }
+
+    /**
+     * Checks that a single object read by doSelect has no load group.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testNoLoadGroupForSingleObject() throws Exception
+    {
+        Criteria criteria = new Criteria().where(
+                BookPeer.BOOK_ID,
+                authorList.get(0).getBooks().get(0).getBookId());
+        List<Book> books = BookPeer.doSelect(criteria);
+
+        assertEquals(1, books.size());
+        assertNull(books.get(0).getLoadGroup());
+    }
+
+    /**
+     * Checks that the referenced objects are loaded correctly
+     * for all members of a load group.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testGetReferencedObjects() throws Exception
+    {
+        List<Book> books = BookPeer.doSelect(
+                new Criteria().addAscendingOrderByColumn(BookPeer.BOOK_ID));
+
+        for (Book book : books)
+        {
+            Author author = book.getAuthor();
+            assertNotNull(author);
+            assertEquals(book.getAuthorId(), author.getAuthorId());
+            assertEquals(
+                    "Author " + book.getTitle().substring(
+                            book.getTitle().lastIndexOf(' ') + 1),
+                    author.getName());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.NoRowsException;
+import org.apache.torque.criteria.Criteria;
+import org.apache.torque.om.SimpleKey;
+import org.apache.torque.test.dbobject.Author;
+import org.apache.torque.test.peer.AuthorPeer;
+import org.apache.torque.test.peer.base.AsyncPeerSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the asynchronous methods in the generated Peer classes.
+ *
+ * @version $Id: $
+ */
+public class AsyncPeerTest extends BaseDatabaseTestCase
+{
+    /**
+     * Tests inserting, selecting and retrieving objects asynchronously.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testInsertAndSelect() throws Exception
+    {
+        cleanBookstore();
+        Author author1 = new Author();
+        author1.setName("Author 1");
+        Author author2 = new Author();
+        author2.setName("Author 2");
+        CompletableFuture.allOf(
+                AuthorPeer.doInsertAsync(author1),
+                AuthorPeer.doInsertAsync(author2))
+            .join();
+
+        CompletableFuture<List<Author>> selected
+                = AuthorPeer.doSelectAsync(new Criteria());
+        CompletableFuture<Author> retrieved
+                = AuthorPeer.retrieveByPKAsync(author2.getPrimaryKey());
+        assertEquals(2, selected.join().size());
+        assertEquals("Author 2", retrieved.join().getName());
+
+        try
+        {
+            AuthorPeer.retrieveByPKAsync(SimpleKey.keyFor(-1)).join();
+            fail("Exception expected");
+        }
+        catch (CompletionException e)
+        {
+            assertTrue(e.getCause() instanceof NoRowsException);
+        }
+    }
+
+    /**
+     * Tests that the asynchronous calls joined into one transaction
+     * are rolled back together if one of them fails.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testTransactionRollback() throws Exception
+    {
+        cleanBookstore();
+        CompletableFuture<Void> transaction
+                = AsyncPeerSupport.transactionAsync(
+                    AuthorPeer.DATABASE_NAME,
+                    connection ->
+                    {
+                        Author author = new Author();
+                        author.setName("Author");
+                        return AuthorPeer.doInsertAsync(author, connection)
+                            .thenCompose(v -> AuthorPeer.async(c ->
+                            {
+                                throw new IllegalStateException("failure");
+                            }));
+                    });
+        try
+        {
+            transaction.join();
+            fail("Exception expected");
+        }
+        catch (CompletionException e)
+        {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(0, AuthorPeer.doSelect(new Criteria()).size());
+    }
+}
@@ -0,0 +1,177 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.criteria.Criteria;
+import org.apache.torque.test.dbobject.Author;
+import org.apache.torque.test.dbobject.NumericType;
+import org.apache.torque.test.peer.AuthorBulkLoader;
+import org.apache.torque.test.peer.AuthorPeer;
+import org.apache.torque.test.peer.NumericTypeBulkLoader;
+import org.apache.torque.test.peer.NumericTypePeer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the generated bulk loaders.
+ *
+ * @version $Id: $
+ */
+public class BulkLoaderTest extends BaseDatabaseTestCase
+{
+    /**
+     * Checks that objects are loaded in several chunks
+     * using the native loading method of the database.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testLoad() throws Exception
+    {
+        cleanBookstore();
+        AuthorBulkLoader loader = new AuthorBulkLoader();
+        loader.setChunkSize(10);
+
+        long rowCount = loader.load(createAuthors(25));
+
+        assertEquals(25, rowCount);
+        verifyAuthors(25);
+    }
+
+    /**
+     * Checks that objects are loaded using JDBC batches
+     * if native loading is switched off.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testLoadBatches() throws Exception
+    {
+        cleanBookstore();
+        AuthorBulkLoader loader = new AuthorBulkLoader();
+        loader.setChunkSize(10);
+        loader.setNativeLoading(false);
+
+        long rowCount = loader.load(createAuthors(25));
+
+        assertEquals(25, rowCount);
+        verifyAuthors(25);
+    }
+
+    /**
+     * Checks that decimal values and null values are loaded correctly.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testLoadNumeric() throws Exception
+    {
+        NumericTypePeer.doDelete(new Criteria());
+        BigDecimal[] values = {
+            new BigDecimal("0.00"),
+            new BigDecimal("12345.67"),
+            new BigDecimal("-0.05"),
+            new BigDecimal("10000.00") };
+        List<NumericType> toLoad = new ArrayList<>();
+        for (int i = 0; i < values.length; i++)
+        {
+            NumericType numericType = new NumericType();
+            numericType.setId(new BigDecimal(i + 1));
+            numericType.setNumericValue(values[i]);
+            if (i % 2 == 0)
+            {
+                numericType.setNumericObjectValue(new BigDecimal(-i * 100));
+            }
+            toLoad.add(numericType);
+        }
+
+        long rowCount = new NumericTypeBulkLoader().load(toLoad);
+
+        assertEquals(values.length, rowCount);
+        Criteria criteria = new Criteria()
+                .addAscendingOrderByColumn(NumericTypePeer.ID);
+        List<NumericType> result = NumericTypePeer.doSelect(criteria);
+        assertEquals(values.length, result.size());
+        for (int i = 0; i < values.length; i++)
+        {
+            NumericType numericType = result.get(i);
+            assertEquals(0, values[i].compareTo(numericType.getNumericValue()));
+            if (i % 2 == 0)
+            {
+                assertEquals(
+                        0,
+                        new BigDecimal(-i * 100).compareTo(
+                                numericType.getNumericObjectValue()));
+            }
+            else
+            {
+                assertNull(numericType.getNumericObjectValue());
+            }
+        }
+    }
+
+    /**
+     * Creates new authors which are not saved.
+     *
+     * @param count the number of authors to create.
+     *
+     * @return the authors, not null.
+     */
+    private List<Author> createAuthors(int count)
+    {
+        List<Author> result = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+        {
+            Author author = new Author();
+            author.setName(String.format("Author %02d", i));
+            result.add(author);
+        }
+        return result;
+    }
+
+    /**
+     * Checks that the author table contains the authors
+     * created by createAuthors.
+     *
+     * @param count the number of expected authors.
+     *
+     * @throws Exception if reading the authors fails.
+     */
+    private void verifyAuthors(int count) throws Exception
+    {
+        Criteria criteria = new Criteria()
+                .addAscendingOrderByColumn(AuthorPeer.NAME);
+        List<Author> authors = AuthorPeer.doSelect(criteria);
+        assertEquals(count, authors.size());
+        for (int i = 0; i < count; i++)
+        {
+            assertEquals(String.format("Author %02d", i), authors.get(i).getName());
+            assertTrue(authors.get(i).getAuthorId() != 0);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.Torque;
+import org.apache.torque.criteria.Criteria;
+import org.apache.torque.test.peer.BookPeer;
+import org.apache.torque.test.peer.base.BookColumnBatch;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the columnar select methods in the generated Peer classes.
+ *
+ * @version $Id: $
+ */
+public class ColumnarSelectTest extends BaseDatabaseTestCase
+{
+    /**
+     * Tests that all rows and columns are read into one batch,
+     * with null values and dictionary encoded strings.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testDoSelectColumnar() throws Exception
+    {
+        cleanBookstore();
+        insertBookstoreData();
+
+        Connection connection = Torque.getConnection(BookPeer.DATABASE_NAME);
+        try
+        {
+            BookColumnBatch batch = BookPeer.doSelectColumnar(
+                    new Criteria(),
+                    connection);
+
+            assertEquals(100, batch.size());
+            assertEquals(100, batch.getTitleDictionary().size());
+            int nullIsbns = 0;
+            Set<Integer> authorIds = new HashSet<>();
+            for (int row = 0; row < batch.size(); row++)
+            {
+                if (batch.isIsbnNull(row))
+                {
+                    nullIsbns++;
+                }
+                assertFalse(batch.isAuthorIdNull(row));
+                authorIds.add(batch.getAuthorIdValues()[row]);
+                assertEquals(
+                        batch.getTitleDictionary().decode(batch.getTitleCodes()[row]),
+                        batch.getTitle(row));
+            }
+            assertEquals(10, nullIsbns);
+            assertEquals(10, authorIds.size());
+        }
+        finally
+        {
+            Torque.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Tests that the streaming columnar select reuses one batch
+     * and reads only the select columns.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testDoSelectColumnarStreaming() throws Exception
+    {
+        cleanBookstore();
+        insertBookstoreData();
+
+        Connection connection = Torque.getConnection(BookPeer.DATABASE_NAME);
+        try
+        {
+            Criteria criteria = new Criteria()
+                    .addSelectColumn(BookPeer.AUTHOR_ID)
+                    .addAscendingOrderByColumn(BookPeer.BOOK_ID);
+            List<BookColumnBatch> batches = new ArrayList<>();
+            List<Integer> sizes = new ArrayList<>();
+            Set<Integer> authorIds = new HashSet<>();
+            long total = BookPeer.doSelectColumnar(
+                    criteria,
+                    30,
+                    batch ->
+                    {
+                        batches.add(batch);
+                        sizes.add(batch.size());
+                        for (int row = 0; row < batch.size(); row++)
+                        {
+                            authorIds.add(batch.getAuthorIdValues()[row]);
+                        }
+                    },
+                    connection);
+
+            assertEquals(100, total);
+            assertEquals(4, batches.size());
+            assertSame(batches.get(0), batches.get(3));
+            assertEquals(30, sizes.get(0).intValue());
+            assertEquals(10, sizes.get(3).intValue());
+            assertEquals(10, authorIds.size());
+            assertEquals(0, batches.get(0).getTitleDictionary().size());
+        }
+        finally
+        {
+            Torque.closeConnection(connection);
+        }
+    }
+}
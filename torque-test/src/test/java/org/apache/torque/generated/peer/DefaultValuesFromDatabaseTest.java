@@ -36,10 +36,12 @@ import org.apache.torque.test.dbobject.CurrentDateTable;
 import org.apache.torque.test.dbobject.CurrentTimeTable;
 import org.apache.torque.test.dbobject.CurrentTimestampTable;
 import org.apache.torque.test.dbobject.DatabaseDefaultValues;
+import org.apache.torque.test.dbobject.NoneIdDefaultValues;
 import org.apache.torque.test.peer.CurrentDateTablePeer;
 import org.apache.torque.test.peer.CurrentTimeTablePeer;
 import org.apache.torque.test.peer.CurrentTimestampTablePeer;
 import org.apache.torque.test.peer.DatabaseDefaultValuesPeer;
+import org.apache.torque.test.peer.NoneIdDefaultValuesPeer;
 import org.apache.torque.util.ColumnValues;
 import org.apache.torque.util.JdbcTypedValue;
 import org.junit.jupiter.api.Test;
@@ -157,6 +159,32 @@ public class DefaultValuesFromDatabaseTest extends BaseDatabaseTestCase
                 toString(databaseDefaultValuesSaved.getTimestampField()));
     }
 
+    /**
+     * Checks that a new object of a table without id generation
+     * receives the database default values, i.e. that the insert
+     * does not write null into the columns with database defaults.
+     */
+    @Test
+    public void testNewObjectDatabaseDefaultIdMethodNone() throws Exception
+    {
+        NoneIdDefaultValuesPeer.doDelete(new Criteria());
+        NoneIdDefaultValues noneIdDefaultValues = new NoneIdDefaultValues();
+        noneIdDefaultValues.setId(1);
+
+        noneIdDefaultValues.save();
+
+        List<NoneIdDefaultValues> noneIdDefaultValuesList
+            = NoneIdDefaultValuesPeer.doSelect(new Criteria());
+        assertEquals(1, noneIdDefaultValuesList.size());
+        NoneIdDefaultValues noneIdDefaultValuesSaved
+            = noneIdDefaultValuesList.get(0);
+        assertEquals(1, noneIdDefaultValuesSaved.getId());
+        assertEquals(
+                Integer.valueOf(2),
+                noneIdDefaultValuesSaved.getOInteger());
+        assertEquals("Default!", noneIdDefaultValuesSaved.getVarcharField());
+    }
+
     /**
      * Tests that values are saved if they are not equal to the default value
      * on a new object.
@@ -20,6 +20,8 @@ package org.apache.torque.generated.peer;
  */
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.torque.BaseDatabaseTestCase;
 import org.apache.torque.ForeignKeySchemaData;
@@ -669,6 +671,81 @@ public class FillerTest extends BaseDatabaseTestCase
                 fkList.get(2).getPIntegerPk());
     }
 
+    /**
+     * Tests that filling referenced objects works if the chunks are read
+     * concurrently by an executor.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testFillReferencedExecutor() throws Exception
+    {
+        ForeignKeySchemaData.clearTablesInDatabase();
+        ForeignKeySchemaData testData
+        = ForeignKeySchemaData.getDefaultTestData();
+        testData.save();
+
+        Criteria criteria = new Criteria();
+        criteria.addAscendingOrderByColumn(
+                RequiredPIntegerFkPeer.ID);
+        List<RequiredPIntegerFk> fkList
+        = RequiredPIntegerFkPeer.doSelect(criteria);
+        assertEquals(3, fkList.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<PIntegerPk> referencedPkList;
+        try
+        {
+            referencedPkList = RequiredPIntegerFkPeer.fillPIntegerPks(
+                    fkList,
+                    1,
+                    executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        // the fk list must reference intPk2, intPk3, intPk3
+        // and the last 2 referenced objects must not be the same objects
+        assertEquals(3, referencedPkList.size());
+        assertEquals(
+                testData.getPIntegerPkList().get(1),
+                fkList.get(0).getPIntegerPk());
+        assertEquals(
+                testData.getPIntegerPkList().get(2),
+                fkList.get(1).getPIntegerPk());
+        assertEquals(
+                testData.getPIntegerPkList().get(2),
+                fkList.get(2).getPIntegerPk());
+        assertNotSame(
+                fkList.get(1).getPIntegerPk(),
+                fkList.get(2).getPIntegerPk());
+        assertSame(
+                referencedPkList.get(0),
+                fkList.get(0).getPIntegerPk());
+    }
+
+    /**
+     * Tests that the chunk size used by the fillers without explicit
+     * chunk size is positive and shrinks for composite keys.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testFillerChunkSize() throws Exception
+    {
+        int simpleKeyChunkSize
+                = RequiredPIntegerFkPeer.getRequiredPIntegerFkPeerImpl()
+                    .getFillerChunkSize(1);
+        int compositeKeyChunkSize
+                = RequiredPIntegerFkPeer.getRequiredPIntegerFkPeerImpl()
+                    .getFillerChunkSize(2);
+        assertTrue(simpleKeyChunkSize > 0);
+        assertTrue(compositeKeyChunkSize > 0);
+        assertTrue(compositeKeyChunkSize <= simpleKeyChunkSize);
+    }
+
     /**
      * Tests that the fill method for referenced objects works for many rows
      * in the database.
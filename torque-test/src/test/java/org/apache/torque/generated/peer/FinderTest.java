@@ -0,0 +1,155 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.sql.Connection;
+import java.util.List;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.Torque;
+import org.apache.torque.test.dbobject.Author;
+import org.apache.torque.test.dbobject.Book;
+import org.apache.torque.test.peer.BookPeer;
+import org.apache.torque.util.TorqueConnection;
+import org.apache.torque.util.Transaction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the cached finder methods in the generated Peer classes.
+ *
+ * @version $Id: $
+ */
+public class FinderTest extends BaseDatabaseTestCase
+{
+    /**
+     * Tests that the results of a finder are cached and that the cache
+     * is invalidated by modifications of the finder's table
+     * and of the tables the finder depends on.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testFindAndInvalidate() throws Exception
+    {
+        cleanBookstore();
+        Author author = new Author();
+        author.setName("Author");
+        author.save();
+        saveBook(author, "Title B");
+        saveBook(author, "Title A");
+
+        Connection connection = Torque.getConnection(BookPeer.DATABASE_NAME);
+        try
+        {
+            List<Book> books = BookPeer.findByAuthor(author.getAuthorId(), connection);
+            assertEquals(2, books.size());
+            assertEquals("Title A", books.get(0).getTitle());
+            assertEquals("Title B", books.get(1).getTitle());
+            assertSame(books, BookPeer.findByAuthor(author.getAuthorId(), connection));
+            try
+            {
+                books.clear();
+                fail("cached result must not be modifiable");
+            }
+            catch (UnsupportedOperationException e)
+            {
+                // expected
+            }
+
+            saveBook(author, "Title C");
+            List<Book> afterInsert = BookPeer.findByAuthor(author.getAuthorId(), connection);
+            assertNotSame(books, afterInsert);
+            assertEquals(3, afterInsert.size());
+
+            author.setName("Author renamed");
+            author.save();
+            assertNotSame(afterInsert, BookPeer.findByAuthor(author.getAuthorId(), connection));
+        }
+        finally
+        {
+            Torque.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Tests that a finder result which contains uncommitted modifications
+     * is not cached and is not visible after a rollback.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testFindInRolledBackTransaction() throws Exception
+    {
+        cleanBookstore();
+        Author author = new Author();
+        author.setName("Author");
+        author.save();
+        saveBook(author, "Title A");
+
+        try (TorqueConnection connection = Transaction.begin(BookPeer.DATABASE_NAME))
+        {
+            Book book = new Book();
+            book.setAuthor(author);
+            book.setTitle("Title B");
+            book.setIsbn("ISBN");
+            book.save(connection);
+
+            List<Book> uncommitted = BookPeer.findByAuthor(author.getAuthorId(), connection);
+            assertEquals(2, uncommitted.size());
+            assertNotSame(uncommitted, BookPeer.findByAuthor(author.getAuthorId(), connection));
+            Transaction.rollback(connection);
+        }
+
+        Connection connection = Torque.getConnection(BookPeer.DATABASE_NAME);
+        try
+        {
+            List<Book> books = BookPeer.findByAuthor(author.getAuthorId(), connection);
+            assertEquals(1, books.size());
+            assertEquals("Title A", books.get(0).getTitle());
+            assertSame(books, BookPeer.findByAuthor(author.getAuthorId(), connection));
+        }
+        finally
+        {
+            Torque.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Saves a book of an author.
+     *
+     * @param author the author of the book, not null.
+     * @param title the title of the book, not null.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    private void saveBook(Author author, String title) throws Exception
+    {
+        Book book = new Book();
+        book.setAuthor(author);
+        book.setTitle(title);
+        book.setIsbn("ISBN");
+        book.save();
+    }
+}
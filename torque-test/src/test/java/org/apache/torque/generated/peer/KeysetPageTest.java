@@ -0,0 +1,213 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.ForeignKeySchemaData;
+import org.apache.torque.om.ComboKey;
+import org.apache.torque.om.ObjectKey;
+import org.apache.torque.om.SimpleKey;
+import org.apache.torque.test.dbobject.Author;
+import org.apache.torque.test.dbobject.CompIntegerVarcharPk;
+import org.apache.torque.test.peer.AuthorPeer;
+import org.apache.torque.test.peer.CompIntegerVarcharPkPeer;
+import org.apache.torque.test.peer.SingleNamedUniquePeer;
+import org.apache.torque.util.Transaction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the keyset pagination methods in the generated Peer classes.
+ *
+ * @version $Id: $
+ */
+public class KeysetPageTest extends BaseDatabaseTestCase
+{
+    /**
+     * Tests that iterating by a single column primary key
+     * returns all objects in key order.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testIterateByPrimaryKey() throws Exception
+    {
+        cleanBookstore();
+        insertBookstoreData();
+
+        try (Connection connection = Transaction.begin(AuthorPeer.DATABASE_NAME))
+        {
+            List<Author> authors = new ArrayList<>();
+            Iterator<Author> iterator
+                    = AuthorPeer.iterateByPrimaryKey(3, connection);
+            while (iterator.hasNext())
+            {
+                authors.add(iterator.next());
+            }
+            assertEquals(10, authors.size());
+            for (int i = 1; i < authors.size(); ++i)
+            {
+                assertTrue(authors.get(i - 1).getAuthorId()
+                        < authors.get(i).getAuthorId());
+            }
+
+            List<Author> lastPage
+                    = AuthorPeer.doSelectPageBefore(null, 4, connection);
+            assertEquals(authors.subList(6, 10), lastPage);
+            Transaction.commit(connection);
+        }
+    }
+
+    /**
+     * Tests reading pages after and before a composite primary key.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testPagesByCompositePrimaryKey() throws Exception
+    {
+        ForeignKeySchemaData.clearTablesInDatabase();
+        insert(1, "a");
+        insert(1, "b");
+        insert(2, "a");
+        insert(2, "b");
+        insert(3, "a");
+
+        try (Connection connection = Transaction.begin(
+                CompIntegerVarcharPkPeer.DATABASE_NAME))
+        {
+            List<CompIntegerVarcharPk> page
+                    = CompIntegerVarcharPkPeer.doSelectPageAfter(
+                            comboKey(1, "b"), 2, connection);
+            assertKeys(page, "2a", "2b");
+
+            page = CompIntegerVarcharPkPeer.doSelectPageBefore(
+                    comboKey(2, "b"), 2, connection);
+            assertKeys(page, "1b", "2a");
+
+            page = CompIntegerVarcharPkPeer.doSelectPageAfter(
+                    CompIntegerVarcharPkPeer.getPageKey(page.get(1)),
+                    10,
+                    connection);
+            assertKeys(page, "2b", "3a");
+            Transaction.commit(connection);
+        }
+    }
+
+    /**
+     * Tests that rows with NULL values in the nullable unique columns
+     * are read by the primary key pages, and that no pagination methods
+     * are generated for the nullable unique columns.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testNullKeyValues() throws Exception
+    {
+        ForeignKeySchemaData.clearTablesInDatabase();
+        insert(1, "a");
+        insertWithNullColumns(2, "a");
+        insert(3, "a");
+        insertWithNullColumns(4, "a");
+
+        try (Connection connection = Transaction.begin(
+                CompIntegerVarcharPkPeer.DATABASE_NAME))
+        {
+            List<CompIntegerVarcharPk> page
+                    = CompIntegerVarcharPkPeer.doSelectPageAfter(
+                            null, 3, connection);
+            assertKeys(page, "1a", "2a", "3a");
+            page = CompIntegerVarcharPkPeer.doSelectPageAfter(
+                    CompIntegerVarcharPkPeer.getPageKey(page.get(2)),
+                    3,
+                    connection);
+            assertKeys(page, "4a");
+            Transaction.commit(connection);
+        }
+
+        assertFalse(hasMethod(
+                CompIntegerVarcharPkPeer.class,
+                "doSelectPageAfterAlternateKey1"));
+        assertTrue(hasMethod(
+                SingleNamedUniquePeer.class,
+                "doSelectPageAfterAlternateKey1"));
+    }
+
+    private static boolean hasMethod(Class<?> clazz, String name)
+    {
+        for (Method method : clazz.getMethods())
+        {
+            if (method.getName().equals(name))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void insertWithNullColumns(int id1, String id2)
+            throws Exception
+    {
+        CompIntegerVarcharPk object = new CompIntegerVarcharPk();
+        object.setId1(id1);
+        object.setId2(id2);
+        object.setIntegerColumn(null);
+        object.setVarcharColumn(null);
+        object.save();
+    }
+
+    private static void insert(int id1, String id2) throws Exception
+    {
+        CompIntegerVarcharPk object = new CompIntegerVarcharPk();
+        object.setId1(id1);
+        object.setId2(id2);
+        object.setIntegerColumn(id1);
+        object.setVarcharColumn(id2);
+        object.save();
+    }
+
+    private static void assertKeys(
+            List<CompIntegerVarcharPk> objects,
+            String... expected)
+    {
+        assertEquals(expected.length, objects.size());
+        for (int i = 0; i < expected.length; ++i)
+        {
+            assertEquals(expected[i],
+                    objects.get(i).getId1() + objects.get(i).getId2());
+        }
+    }
+
+    private static ObjectKey<?> comboKey(int id1, String id2)
+    {
+        return new ComboKey(new SimpleKey[] {
+                SimpleKey.keyFor(id1),
+                SimpleKey.keyFor(id2)});
+    }
+}
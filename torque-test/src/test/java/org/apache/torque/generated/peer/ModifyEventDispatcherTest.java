@@ -0,0 +1,181 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.test.dbobject.Author;
+import org.apache.torque.test.dbobject.base.ModifyEventDispatcher;
+import org.apache.torque.test.dbobject.base.ModifyEventDispatcher.ModifyEvent;
+import org.apache.torque.test.peer.AuthorPeer;
+import org.apache.torque.util.Transaction;
+import org.apache.torque.util.TransactionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the asynchronous dispatch of modification events
+ * by the generated Peer classes.
+ *
+ * @version $Id: $
+ */
+public class ModifyEventDispatcherTest extends BaseDatabaseTestCase
+{
+    /** The events received by the listener. */
+    private final List<ModifyEvent> received = new ArrayList<>();
+
+    /** The listener which collects the events. */
+    private final ModifyEventDispatcher.BatchListener listener = events ->
+    {
+        synchronized (received)
+        {
+            received.addAll(events);
+        }
+    };
+
+    @AfterEach
+    public void stopDispatcher()
+    {
+        ModifyEventDispatcher.removeListener(listener);
+        ModifyEventDispatcher.stop();
+    }
+
+    /**
+     * Tests that the modifications of a committed transaction
+     * are coalesced and delivered, and that the modifications
+     * of a rolled back transaction are discarded.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testCommitAndRollback() throws Exception
+    {
+        cleanBookstore();
+        // a long window, the events are delivered by stop()
+        ModifyEventDispatcher dispatcher
+                = ModifyEventDispatcher.start(60000L, 100);
+        ModifyEventDispatcher.addListener(listener);
+
+        Author author = new Author();
+        Connection connection = Transaction.begin(AuthorPeer.DATABASE_NAME);
+        author.setName("Author 1");
+        author.save(connection);
+        author.setName("Author 2");
+        author.save(connection);
+        assertEquals(0, dispatcher.getStats().getRecorded());
+        ModifyEventDispatcher.commit(connection);
+
+        connection = Transaction.begin(AuthorPeer.DATABASE_NAME);
+        Author rolledBack = new Author();
+        rolledBack.setName("rolled back");
+        rolledBack.save(connection);
+        ModifyEventDispatcher.rollback(connection);
+
+        ModifyEventDispatcher.Stats stats = dispatcher.getStats();
+        assertEquals(2, stats.getRecorded());
+        assertEquals(1, stats.getCoalesced());
+        assertEquals(1, stats.getPending());
+
+        ModifyEventDispatcher.stop();
+
+        assertEquals(1, received.size());
+        ModifyEvent event = received.get(0);
+        assertEquals(ModifyEventDispatcher.Type.INSERT, event.getType());
+        assertTrue(event.getTableName().toLowerCase().endsWith("author"));
+        assertEquals(Long.valueOf(author.getAuthorId()), event.getKey());
+        assertEquals(1, dispatcher.getStats().getBatches());
+    }
+
+    /**
+     * Tests that the modifications made by saving without a connection,
+     * i.e. in a transaction started and committed internally by Torque,
+     * are delivered.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testSaveWithoutConnection() throws Exception
+    {
+        cleanBookstore();
+        ModifyEventDispatcher dispatcher
+                = ModifyEventDispatcher.start(60000L, 100);
+        ModifyEventDispatcher.addListener(listener);
+
+        Author author = new Author();
+        author.setName("Author 1");
+        author.save();
+
+        assertEquals(1, dispatcher.getStats().getRecorded());
+
+        ModifyEventDispatcher.stop();
+
+        assertEquals(1, received.size());
+        ModifyEvent event = received.get(0);
+        assertEquals(ModifyEventDispatcher.Type.INSERT, event.getType());
+        assertEquals(Long.valueOf(author.getAuthorId()), event.getKey());
+    }
+
+    /**
+     * Tests that the modifications of a transaction committed
+     * by Transaction.commit are delivered, that the modifications
+     * of a transaction rolled back by Transaction.rollback are discarded,
+     * and that the transaction manager is restored when the dispatcher
+     * is stopped.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testTransactionCommit() throws Exception
+    {
+        cleanBookstore();
+        TransactionManager transactionManager
+                = Transaction.getTransactionManager();
+        ModifyEventDispatcher dispatcher
+                = ModifyEventDispatcher.start(60000L, 100);
+        ModifyEventDispatcher.addListener(listener);
+
+        Connection connection = Transaction.begin(AuthorPeer.DATABASE_NAME);
+        Author author = new Author();
+        author.setName("Author 1");
+        author.save(connection);
+        Transaction.commit(connection);
+
+        connection = Transaction.begin(AuthorPeer.DATABASE_NAME);
+        Author rolledBack = new Author();
+        rolledBack.setName("rolled back");
+        rolledBack.save(connection);
+        Transaction.rollback(connection);
+
+        assertEquals(1, dispatcher.getStats().getRecorded());
+
+        ModifyEventDispatcher.stop();
+
+        assertEquals(1, received.size());
+        assertEquals(Long.valueOf(author.getAuthorId()), received.get(0).getKey());
+        assertSame(transactionManager, Transaction.getTransactionManager());
+    }
+}
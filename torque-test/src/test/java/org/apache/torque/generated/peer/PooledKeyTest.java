@@ -0,0 +1,138 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.Torque;
+import org.apache.torque.adapter.IDMethod;
+import org.apache.torque.criteria.Criteria;
+import org.apache.torque.test.dbobject.PooledKeyPk;
+import org.apache.torque.test.peer.PooledKeyPkPeer;
+import org.apache.torque.test.peer.base.BasePooledKeyPkPeerImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the primary keys of a table with an allocationSize
+ * id-method-parameter. If the database uses sequences,
+ * the keys are handed out from blocks of allocationSize keys.
+ *
+ * @version $Id: $
+ */
+public class PooledKeyTest extends BaseDatabaseTestCase
+{
+    /** The allocationSize of the POOLED_KEY_PK table. */
+    private static final int ALLOCATION_SIZE = 10;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        PooledKeyPkPeer.doDelete(new Criteria());
+    }
+
+    /**
+     * Checks that the keys of the saved objects are distinct
+     * over more than one block, and that the keys within a block
+     * are consecutive if the database uses sequences.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testKeysAreDistinct() throws Exception
+    {
+        resetPooledKeys();
+        Set<Integer> keys = new HashSet<>();
+        int[] savedKeys = new int[2 * ALLOCATION_SIZE + 1];
+        for (int i = 0; i < savedKeys.length; ++i)
+        {
+            PooledKeyPk object = new PooledKeyPk();
+            object.setName("name " + i);
+            object.save();
+            savedKeys[i] = object.getId();
+            assertTrue("duplicate key " + savedKeys[i], keys.add(savedKeys[i]));
+        }
+        assertEquals(savedKeys.length, PooledKeyPkPeer.doSelect(new Criteria()).size());
+
+        if (usesSequences())
+        {
+            for (int i = 1; i < ALLOCATION_SIZE; ++i)
+            {
+                assertEquals(savedKeys[0] + i, savedKeys[i]);
+            }
+            assertTrue(savedKeys[ALLOCATION_SIZE] >= savedKeys[0] + ALLOCATION_SIZE);
+        }
+    }
+
+    /**
+     * Checks that the keys handed out after the key blocks are discarded
+     * do not collide with the keys handed out before.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testResetPooledKeys() throws Exception
+    {
+        resetPooledKeys();
+        PooledKeyPk first = new PooledKeyPk();
+        first.save();
+        resetPooledKeys();
+        PooledKeyPk second = new PooledKeyPk();
+        second.save();
+
+        assertTrue(second.getId() != first.getId());
+        if (usesSequences())
+        {
+            // the second key is the first key of the next block
+            assertTrue(second.getId() >= first.getId() + ALLOCATION_SIZE);
+        }
+    }
+
+    private static boolean usesSequences() throws Exception
+    {
+        return Torque.getDatabase(Torque.getDefaultDB()).getAdapter()
+                .getIDMethodType() == IDMethod.SEQUENCE;
+    }
+
+    /**
+     * Discards the key blocks of the table. The method is only
+     * generated if the table uses the native id method,
+     * so it is looked up by reflection.
+     */
+    private static void resetPooledKeys() throws Exception
+    {
+        Method method;
+        try
+        {
+            method = BasePooledKeyPkPeerImpl.class.getMethod("resetPooledKeys");
+        }
+        catch (NoSuchMethodException e)
+        {
+            return;
+        }
+        method.invoke(null);
+    }
+}
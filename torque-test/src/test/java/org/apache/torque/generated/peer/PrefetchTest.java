@@ -0,0 +1,96 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.Torque;
+import org.apache.torque.criteria.Criteria;
+import org.apache.torque.test.dbobject.Author;
+import org.apache.torque.test.dbobject.Book;
+import org.apache.torque.test.peer.AuthorPeer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the doSelect methods with prefetch paths in the generated
+ * Peer classes.
+ *
+ * @version $Id: $
+ */
+public class PrefetchTest extends BaseDatabaseTestCase
+{
+    /**
+     * Tests that adding the same relation twice returns the same path
+     * and that all paths of the tree are kept.
+     */
+    @Test
+    public void testPaths()
+    {
+        AuthorPeer.PrefetchPath<Author> prefetch = AuthorPeer.prefetch();
+        assertSame(prefetch.books(), prefetch.books());
+        assertSame(prefetch, prefetch.books().author().getRoot());
+        assertEquals("books.author", prefetch.books().author().getPath());
+        assertEquals(Arrays.asList("books.author"), prefetch.getPaths());
+    }
+
+    /**
+     * Tests that the related objects of all levels of the tree are read.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testDoSelect() throws Exception
+    {
+        cleanBookstore();
+        insertBookstoreData();
+
+        Connection connection = Torque.getConnection(AuthorPeer.DATABASE_NAME);
+        try
+        {
+            Criteria criteria = new Criteria().addAscendingOrderByColumn(AuthorPeer.NAME);
+            List<Author> authors = AuthorPeer.doSelect(
+                    criteria,
+                    AuthorPeer.prefetch().books().author(),
+                    connection);
+
+            assertEquals(10, authors.size());
+            for (Author author : authors)
+            {
+                assertTrue(author.isBooksInitialized());
+                assertEquals(10, author.getBooks().size());
+                for (Book book : author.getBooks())
+                {
+                    assertEquals(author.getName(), book.getAuthor().getName());
+                }
+            }
+        }
+        finally
+        {
+            Torque.closeConnection(connection);
+        }
+    }
+}
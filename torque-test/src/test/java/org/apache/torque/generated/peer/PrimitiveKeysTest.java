@@ -0,0 +1,129 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.torque.om.ObjectKey;
+import org.apache.torque.om.SimpleKey;
+import org.apache.torque.test.peer.base.PrimitiveKeys;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the generated collections of primitive long keys
+ * which are used by the fillers and setAndSave methods.
+ *
+ * @version $Id: $
+ */
+public class PrimitiveKeysTest
+{
+    /**
+     * Tests adding keys to the set, including the key 0,
+     * negative keys and enough keys to enlarge the table several times.
+     */
+    @Test
+    public void testLongSet()
+    {
+        PrimitiveKeys.LongSet set = new PrimitiveKeys.LongSet(1);
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        for (long key = -1000; key <= 1000; key++)
+        {
+            set.add(key * 31);
+        }
+        assertFalse(set.add(31));
+        assertEquals(2001, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-31000));
+        assertTrue(set.contains(31000));
+        assertFalse(set.contains(1));
+
+        long[] keys = set.toArray();
+        assertEquals(2001, keys.length);
+        Set<Long> distinct = new HashSet<>();
+        for (long key : keys)
+        {
+            assertEquals(0, key % 31);
+            distinct.add(key);
+        }
+        assertEquals(2001, distinct.size());
+    }
+
+    /**
+     * Tests that the keys of the set can be used as criteria values.
+     */
+    @Test
+    public void testLongSetToObjectKeys()
+    {
+        PrimitiveKeys.LongSet set = new PrimitiveKeys.LongSet(16);
+        set.add(3);
+        set.add(Integer.MAX_VALUE + 1L);
+        set.add(3);
+
+        List<ObjectKey<?>> objectKeys = set.toObjectKeys();
+        assertEquals(2, objectKeys.size());
+        assertTrue(objectKeys.contains(SimpleKey.keyFor(3)));
+        assertTrue(objectKeys.contains(SimpleKey.keyFor(Integer.MAX_VALUE + 1L)));
+    }
+
+    /**
+     * Tests putting and reading values of the map, including the key 0,
+     * and enough keys to enlarge the table several times.
+     */
+    @Test
+    public void testLongMap()
+    {
+        PrimitiveKeys.LongMap<String> map = new PrimitiveKeys.LongMap<>(1);
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+        assertNull(map.put(0, "zero"));
+        assertEquals("zero", map.put(0, "null"));
+        assertEquals("null", map.get(0));
+        assertTrue(map.containsKey(0));
+
+        for (int key = 1; key <= 10000; key++)
+        {
+            assertNull(map.put(key, "v" + key));
+        }
+        assertEquals(10001, map.size());
+        assertEquals("v1", map.put(1, "one"));
+        assertEquals(10001, map.size());
+        for (int key = 2; key <= 10000; key++)
+        {
+            assertEquals("v" + key, map.get(key));
+        }
+        assertEquals("one", map.get(1));
+        assertNull(map.get(10001));
+        assertFalse(map.containsKey(-1));
+
+        assertNull(map.computeIfAbsent(-5, key -> null));
+        assertFalse(map.containsKey(-5));
+        assertEquals("computed", map.computeIfAbsent(-5, key -> "computed"));
+        assertEquals("computed", map.computeIfAbsent(-5, key -> "other"));
+    }
+}
@@ -0,0 +1,88 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.sql.Connection;
+import java.util.List;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.criteria.Criteria;
+import org.apache.torque.test.dbobject.Book;
+import org.apache.torque.test.dbobject.BookListingProjection;
+import org.apache.torque.test.peer.BookPeer;
+import org.apache.torque.util.Transaction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the projection select methods in the generated Peer classes.
+ *
+ * @version $Id: $
+ */
+public class ProjectionTest extends BaseDatabaseTestCase
+{
+    /**
+     * Tests that a projection select reads the projection columns
+     * of the rows selected by the criteria.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testSelectProjection() throws Exception
+    {
+        cleanBookstore();
+        insertBookstoreData();
+
+        try (Connection connection = Transaction.begin(BookPeer.DATABASE_NAME))
+        {
+            Criteria criteria = new Criteria()
+                    .where(BookPeer.TITLE, "Book 1 - Author %", Criteria.LIKE)
+                    .addAscendingOrderByColumn(BookPeer.BOOK_ID);
+            List<Book> books = BookPeer.doSelect(criteria, connection);
+
+            criteria = new Criteria()
+                    .where(BookPeer.TITLE, "Book 1 - Author %", Criteria.LIKE)
+                    .addAscendingOrderByColumn(BookPeer.BOOK_ID);
+            List<BookListingProjection> projections
+                    = BookPeer.selectBookListingProjection(criteria, connection);
+
+            assertEquals(3, criteria.getSelectColumns().size());
+            assertEquals(books.size(), projections.size());
+            assertTrue(projections.size() > 0);
+            for (int i = 0; i < books.size(); ++i)
+            {
+                Book book = books.get(i);
+                BookListingProjection projection = projections.get(i);
+                assertEquals(book.getBookId(), projection.getBookId());
+                assertEquals(book.getTitle(), projection.getTitle());
+                assertEquals(book.getIsbn(), projection.getIsbn());
+                assertEquals(
+                        new BookListingProjection(
+                                book.getBookId(),
+                                book.getTitle(),
+                                book.getIsbn()),
+                        projection);
+            }
+            Transaction.commit(connection);
+        }
+    }
+}
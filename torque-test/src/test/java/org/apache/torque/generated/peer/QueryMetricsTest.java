@@ -0,0 +1,168 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.List;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.ForeignKeySchemaData;
+import org.apache.torque.criteria.Criteria;
+import org.apache.torque.test.dbobject.Author;
+import org.apache.torque.test.dbobject.CompIntegerVarcharPk;
+import org.apache.torque.test.dbobject.base.QueryMetrics;
+import org.apache.torque.test.peer.AuthorPeer;
+import org.apache.torque.test.peer.CompIntegerVarcharPkPeer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the query metrics recorded by the generated Peer classes.
+ *
+ * @version $Id: $
+ */
+public class QueryMetricsTest extends BaseDatabaseTestCase
+{
+    @AfterEach
+    public void resetMetrics()
+    {
+        QueryMetrics.setSlowThresholdMillis(1000L);
+        QueryMetrics.reset();
+    }
+
+    /**
+     * Tests that selects, inserts, updates and deletes are counted
+     * per table and that slow statements are passed to the listeners.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testRecord() throws Exception
+    {
+        cleanBookstore();
+        QueryMetrics.reset();
+        List<String> slow = new java.util.ArrayList<>();
+        QueryMetrics.Listener listener = new QueryMetrics.Listener()
+        {
+            @Override
+            public void statementExecuted(
+                    String tableName,
+                    QueryMetrics.Operation operation,
+                    long durationNanos,
+                    long rows)
+            {
+            }
+
+            @Override
+            public void slowStatement(
+                    String tableName,
+                    QueryMetrics.Operation operation,
+                    long durationNanos,
+                    String fingerprint,
+                    String caller)
+            {
+                slow.add(fingerprint);
+            }
+        };
+        QueryMetrics.addListener(listener);
+        try
+        {
+            Author author = new Author();
+            author.setName("Author 1");
+            author.save();
+            author.setName("Author 2");
+            author.save();
+
+            QueryMetrics.setSlowThresholdMillis(0L);
+            Criteria criteria = new Criteria()
+                    .where(AuthorPeer.NAME, "Author 2");
+            List<Author> authors = AuthorPeer.doSelect(criteria);
+            assertEquals(1, authors.size());
+
+            QueryMetrics.Stats selects = QueryMetrics.getStats(
+                    "author", QueryMetrics.Operation.SELECT);
+            assertEquals(1, selects.getCalls());
+            assertEquals(1, selects.getRows());
+            assertEquals(1, selects.getHistogram().getCount());
+            assertEquals(1, QueryMetrics.getStats(
+                    "author", QueryMetrics.Operation.INSERT).getCalls());
+            assertEquals(1, QueryMetrics.getStats(
+                    "author", QueryMetrics.Operation.UPDATE).getCalls());
+            assertEquals(1, slow.size());
+            assertTrue(slow.get(0), slow.get(0).contains("?"));
+            assertTrue(slow.get(0), !slow.get(0).contains("Author 2"));
+        }
+        finally
+        {
+            QueryMetrics.removeListener(listener);
+        }
+    }
+
+    /**
+     * Tests that the static primary key statements, which are generated
+     * because the option torque.om.staticSql is set, are counted.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testRecordStaticSql() throws Exception
+    {
+        ForeignKeySchemaData.clearTablesInDatabase();
+        QueryMetrics.reset();
+
+        CompIntegerVarcharPk object = new CompIntegerVarcharPk();
+        object.setId1(1);
+        object.setId2("a");
+        object.save();
+        CompIntegerVarcharPk loaded
+                = CompIntegerVarcharPkPeer.retrieveByPK(object.getPrimaryKey());
+        loaded.setName("name");
+        loaded.save();
+        CompIntegerVarcharPkPeer.doDelete(loaded);
+
+        String tableName = "COMP_INTEGER_VARCHAR_PK";
+        assertEquals(1, QueryMetrics.getStats(
+                tableName, QueryMetrics.Operation.INSERT).getCalls());
+        QueryMetrics.Stats selects = QueryMetrics.getStats(
+                tableName, QueryMetrics.Operation.SELECT);
+        assertEquals(1, selects.getCalls());
+        assertEquals(1, selects.getRows());
+        assertEquals(1, QueryMetrics.getStats(
+                tableName, QueryMetrics.Operation.UPDATE).getCalls());
+        QueryMetrics.Stats deletes = QueryMetrics.getStats(
+                tableName, QueryMetrics.Operation.DELETE);
+        assertEquals(1, deletes.getCalls());
+        assertEquals(1, deletes.getRows());
+    }
+
+    /**
+     * Tests the normalization of SQL statements to fingerprints.
+     */
+    @Test
+    public void testNormalize()
+    {
+        assertEquals(
+                "SELECT a FROM b WHERE c=? AND d IN (?, ...)",
+                QueryMetrics.normalize(
+                    "SELECT a FROM b\n  WHERE c='x''y' AND d IN (1, 2,3)"));
+    }
+}
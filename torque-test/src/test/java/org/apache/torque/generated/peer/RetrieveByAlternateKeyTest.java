@@ -0,0 +1,141 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.ForeignKeySchemaData;
+import org.apache.torque.om.ComboKey;
+import org.apache.torque.om.ObjectKey;
+import org.apache.torque.om.SimpleKey;
+import org.apache.torque.test.dbobject.CompIntegerVarcharPk;
+import org.apache.torque.test.peer.CompIntegerVarcharPkPeer;
+import org.apache.torque.util.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the methods retrieving objects by alternate keys
+ * in the generated Peer classes.
+ *
+ * @version $Id: $
+ */
+public class RetrieveByAlternateKeyTest extends BaseDatabaseTestCase
+{
+    private ForeignKeySchemaData testData;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        ForeignKeySchemaData.clearTablesInDatabase();
+        testData = ForeignKeySchemaData.getDefaultTestData();
+        testData.save();
+    }
+
+    /**
+     * Tests retrieving several objects by a composite alternate key.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testRetrieveByCompositeAlternateKeys() throws Exception
+    {
+        List<ObjectKey<?>> keys = new ArrayList<>();
+        keys.add(comboKey(100, "a"));
+        keys.add(comboKey(200, "a"));
+        keys.add(comboKey(300, "x"));
+
+        try (Connection connection = Transaction.begin(
+                CompIntegerVarcharPkPeer.DATABASE_NAME))
+        {
+            List<CompIntegerVarcharPk> result
+                    = CompIntegerVarcharPkPeer.retrieveByAlternateKey1s(
+                            keys, connection);
+            assertEquals(2, result.size());
+            for (CompIntegerVarcharPk object : result)
+            {
+                assertEquals("a", object.getVarcharColumn());
+            }
+            Transaction.commit(connection);
+        }
+    }
+
+    /**
+     * Tests that the map returned by the retrieve method is keyed
+     * by the composite alternate key.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testRetrieveByCompositeAlternateKeysMap() throws Exception
+    {
+        List<ObjectKey<?>> keys = new ArrayList<>();
+        keys.add(comboKey(100, "a"));
+        keys.add(comboKey(100, "b"));
+        keys.add(comboKey(300, "x"));
+
+        try (Connection connection = Transaction.begin(
+                CompIntegerVarcharPkPeer.DATABASE_NAME))
+        {
+            Map<ObjectKey<?>, CompIntegerVarcharPk> result
+                    = CompIntegerVarcharPkPeer.retrieveByAlternateKey1Map(
+                            keys, connection);
+            assertEquals(2, result.size());
+            CompIntegerVarcharPk object = result.get(comboKey(100, "b"));
+            assertEquals(Integer.valueOf(100), object.getIntegerColumn());
+            assertEquals("b", object.getVarcharColumn());
+            assertTrue(result.containsKey(comboKey(100, "a")));
+            assertNull(result.get(comboKey(300, "x")));
+            Transaction.commit(connection);
+        }
+    }
+
+    /**
+     * Tests that an empty key list returns an empty result.
+     *
+     * @throws Exception if a database error occurs.
+     */
+    @Test
+    public void testRetrieveByCompositeAlternateKeysEmpty() throws Exception
+    {
+        try (Connection connection = Transaction.begin(
+                CompIntegerVarcharPkPeer.DATABASE_NAME))
+        {
+            assertTrue(CompIntegerVarcharPkPeer.retrieveByAlternateKey1s(
+                    new ArrayList<ObjectKey<?>>(), connection).isEmpty());
+            Transaction.commit(connection);
+        }
+    }
+
+    private static ObjectKey<?> comboKey(Integer integerColumn, String varcharColumn)
+    {
+        return new ComboKey(new SimpleKey[] {
+                SimpleKey.keyFor(integerColumn),
+                SimpleKey.keyFor(varcharColumn)});
+    }
+}
@@ -189,4 +189,33 @@ public class RetrieveByPkTest extends BaseDatabaseTestCase
         assertTrue("authorList should contain author 1", result.contains(authorList.get(1)));
         assertTrue("authorList should contain author 2", result.contains(authorList.get(2)));
     }
+
+    /**
+     * Tests the retrieveByObjectKeys method with more keys than fit
+     * into one query, including duplicate keys.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testRetrieveByObjectKeysManyKeys() throws Exception
+    {
+        List<ObjectKey<?>> objectKeys = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++)
+        {
+            objectKeys.add(SimpleKey.keyFor(-i));
+        }
+        for (Author author : authorList)
+        {
+            objectKeys.add(author.getPrimaryKey());
+        }
+        objectKeys.add(authorList.get(0).getPrimaryKey());
+
+        List<Author> result = AuthorPeer.retrieveByObjectKeys(objectKeys);
+        assertEquals(authorList.size(), result.size());
+        for (Author author : authorList)
+        {
+            assertTrue("result should contain author " + author.getAuthorId(),
+                    result.contains(author));
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.List;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.Torque;
+import org.apache.torque.adapter.Adapter;
+import org.apache.torque.adapter.DerbyAdapter;
+import org.apache.torque.adapter.MysqlAdapter;
+import org.apache.torque.criteria.Criteria;
+import org.apache.torque.test.dbobject.ReturnedDefaultValues;
+import org.apache.torque.test.peer.ReturnedDefaultValuesPeer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that the peer of a table with the returnGeneratedValues attribute
+ * reads the values generated by the database back on insert.
+ *
+ * @version $Id: $
+ */
+public class ReturnGeneratedValuesTest extends BaseDatabaseTestCase
+{
+    /**
+     * Checks that the generated key and the database default values
+     * are set in the object after inserting it.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testInsertReadsGeneratedValues() throws Exception
+    {
+        ReturnedDefaultValuesPeer.doDelete(new Criteria());
+        ReturnedDefaultValues object = new ReturnedDefaultValues();
+        object.setNormalPayload(7);
+        assertNull(object.getTimestampField());
+
+        object.save();
+
+        assertFalse(object.isNew());
+        assertFalse(object.isModified());
+        assertNotNull(object.getPrimaryKey());
+
+        List<ReturnedDefaultValues> dbStateList
+                = ReturnedDefaultValuesPeer.doSelect(new Criteria());
+        assertEquals(1, dbStateList.size());
+        ReturnedDefaultValues dbState = dbStateList.get(0);
+        assertEquals(dbState.getPrimaryKey(), object.getPrimaryKey());
+        assertEquals(Integer.valueOf(2), object.getOInteger());
+
+        Adapter adapter = Torque.getDatabase(Torque.getDefaultDB()).getAdapter();
+        if (adapter instanceof DerbyAdapter || adapter instanceof MysqlAdapter)
+        {
+            // only the generated key is returned by these databases
+            return;
+        }
+        assertEquals(dbState.getTimestampField(), object.getTimestampField());
+    }
+}
@@ -22,6 +22,7 @@ package org.apache.torque.generated.peer;
 import java.sql.Connection;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.torque.BaseDatabaseTestCase;
 import org.apache.torque.TooManyRowsException;
@@ -43,6 +44,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 /**
  * Tests simple selects.
@@ -349,6 +351,80 @@ public class SelectTest extends BaseDatabaseTestCase
         assertEquals("Book 1 - Author 7", selectedBook.getTitle());
     }
 
+    /**
+     * Tests a select using a database cursor.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testSelectAsCursor() throws Exception
+    {
+        Criteria criteria = new Criteria();
+        criteria.addAscendingOrderByColumn(BookPeer.TITLE);
+
+        Connection connection = Torque.getConnection();
+        List<String> titles;
+        try (Stream<Book> books
+                = BookPeer.doSelectAsCursor(criteria, 7, null, connection))
+        {
+            titles = books.map(Book::getTitle).collect(Collectors.toList());
+        }
+        finally
+        {
+            Torque.closeConnection(connection);
+        }
+
+        assertEquals(100, titles.size());
+        assertEquals("Book 1 - Author 1", titles.get(0));
+        // the passed criteria must not be modified
+        assertTrue(criteria.getSelectColumns().isEmpty());
+    }
+
+    /**
+     * Tests a select using a database cursor which refills one object.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testSelectAsCursorReuse() throws Exception
+    {
+        Criteria criteria = new Criteria();
+        criteria.where(BookPeer.AUTHOR_ID, authorList.get(0).getAuthorId());
+        Book reuse = new Book();
+
+        Connection connection = Torque.getConnection();
+        int count = 0;
+        try (Stream<Book> books
+                = BookPeer.doSelectAsCursor(criteria, 0, reuse, connection))
+        {
+            for (Book book : (Iterable<Book>) books::iterator)
+            {
+                assertSame(reuse, book);
+                assertEquals(authorList.get(0).getAuthorId(), book.getAuthorId());
+                assertFalse(book.isNew());
+                count++;
+            }
+        }
+        finally
+        {
+            Torque.closeConnection(connection);
+        }
+
+        assertEquals(10, count);
+
+        // the criteria is unchanged and can be used again with reuse
+        connection = Torque.getConnection();
+        try (Stream<Book> books
+                = BookPeer.doSelectAsCursor(criteria, 0, reuse, connection))
+        {
+            assertEquals(10, books.count());
+        }
+        finally
+        {
+            Torque.closeConnection(connection);
+        }
+    }
+
     /**
      * Tests a partial select where only a part of the object's attributes
      * are filled and foreign columns are also read.
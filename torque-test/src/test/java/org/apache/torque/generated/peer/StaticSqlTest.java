@@ -0,0 +1,149 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.lang.reflect.Field;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.ForeignKeySchemaData;
+import org.apache.torque.om.ObjectKey;
+import org.apache.torque.test.dbobject.CompIntegerVarcharPk;
+import org.apache.torque.test.peer.CompIntegerVarcharPkPeer;
+import org.apache.torque.test.peer.base.BaseCompIntegerVarcharPkPeerImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the static SQL statements of the peer implementations,
+ * which are generated if the option torque.om.staticSql is set.
+ *
+ * @version $Id: $
+ */
+public class StaticSqlTest extends BaseDatabaseTestCase
+{
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        ForeignKeySchemaData.clearTablesInDatabase();
+    }
+
+    /**
+     * Checks that null values of nullable columns are inserted
+     * and updated by the static statements.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testNullValues() throws Exception
+    {
+        CompIntegerVarcharPk object = new CompIntegerVarcharPk();
+        object.setId1(1);
+        object.setId2("a");
+        object.setIntegerColumn(null);
+        object.setVarcharColumn(null);
+        object.setName(null);
+        object.save();
+
+        ObjectKey<?> primaryKey = object.getPrimaryKey();
+        CompIntegerVarcharPk loaded
+                = CompIntegerVarcharPkPeer.retrieveByPK(primaryKey);
+        assertNull(loaded.getIntegerColumn());
+        assertNull(loaded.getVarcharColumn());
+        assertNull(loaded.getName());
+
+        loaded.setIntegerColumn(2);
+        loaded.setVarcharColumn("b");
+        loaded.setName("c");
+        loaded.save();
+        loaded = CompIntegerVarcharPkPeer.retrieveByPK(primaryKey);
+        assertEquals(Integer.valueOf(2), loaded.getIntegerColumn());
+        assertEquals("b", loaded.getVarcharColumn());
+        assertEquals("c", loaded.getName());
+
+        loaded.setIntegerColumn(null);
+        loaded.setVarcharColumn(null);
+        loaded.setName(null);
+        loaded.save();
+        loaded = CompIntegerVarcharPkPeer.retrieveByPK(primaryKey);
+        assertNull(loaded.getIntegerColumn());
+        assertNull(loaded.getVarcharColumn());
+        assertNull(loaded.getName());
+    }
+
+    /**
+     * Checks that the static statements are built once and then reused.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testStatementsAreCached() throws Exception
+    {
+        BaseCompIntegerVarcharPkPeerImpl peerImpl
+                = CompIntegerVarcharPkPeer.getCompIntegerVarcharPkPeerImpl();
+
+        for (int i = 0; i < 2; ++i)
+        {
+            CompIntegerVarcharPk object = new CompIntegerVarcharPk();
+            object.setId1(i);
+            object.setId2("a");
+            object.save();
+            object.setName("name " + i);
+            object.save();
+            CompIntegerVarcharPkPeer.retrieveByPK(object.getPrimaryKey());
+            CompIntegerVarcharPkPeer.doDelete(object.getPrimaryKey());
+        }
+        String insertSql = getStaticSql(peerImpl, "staticInsertSql");
+        String updateSql = getStaticSql(peerImpl, "staticUpdateSql");
+        String selectSql = getStaticSql(peerImpl, "staticSelectByPkSql");
+        String deleteSql = getStaticSql(peerImpl, "staticDeleteByPkSql");
+        assertTrue(insertSql, insertSql.startsWith("INSERT INTO "));
+        assertTrue(insertSql, insertSql.endsWith(
+                " (ID1, ID2, INTEGER_COLUMN, VARCHAR_COLUMN, NAME)"
+                + " VALUES (?, ?, ?, ?, ?)"));
+        assertTrue(updateSql, updateSql.endsWith(
+                " SET INTEGER_COLUMN = ?, VARCHAR_COLUMN = ?, NAME = ?"
+                + " WHERE ID1 = ? AND ID2 = ?"));
+        assertTrue(selectSql, selectSql.startsWith(
+                "SELECT ID1, ID2, INTEGER_COLUMN, VARCHAR_COLUMN, NAME FROM "));
+        assertTrue(deleteSql, deleteSql.endsWith(" WHERE ID1 = ? AND ID2 = ?"));
+
+        CompIntegerVarcharPk object = new CompIntegerVarcharPk();
+        object.setId1(3);
+        object.setId2("a");
+        object.save();
+        assertSame(insertSql, getStaticSql(peerImpl, "staticInsertSql"));
+    }
+
+    private static String getStaticSql(
+                BaseCompIntegerVarcharPkPeerImpl peerImpl,
+                String fieldName)
+            throws Exception
+    {
+        Field field = BaseCompIntegerVarcharPkPeerImpl.class
+                .getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return (String) field.get(peerImpl);
+    }
+}
@@ -0,0 +1,254 @@
+package org.apache.torque.generated.peer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.OptimisticLockingFailedException;
+import org.apache.torque.criteria.Criteria;
+import org.apache.torque.test.dbobject.OptimisticLocking;
+import org.apache.torque.test.dbobject.SingleNamedUnique;
+import org.apache.torque.test.peer.OptimisticLockingPeer;
+import org.apache.torque.test.peer.OptimisticLockingPeerImpl;
+import org.apache.torque.test.peer.SingleNamedUniquePeer;
+import org.apache.torque.util.TorqueConnection;
+import org.apache.torque.util.Transaction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the generated upsert methods.
+ *
+ * @version $Id: $
+ */
+public class UpsertTest extends BaseDatabaseTestCase
+{
+    /**
+     * Checks that upserting an object with an existing primary key
+     * updates the existing row instead of inserting a new one.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testUpsertExistingPrimaryKey() throws Exception
+    {
+        SingleNamedUniquePeer.doDelete(new Criteria());
+        SingleNamedUnique existing = new SingleNamedUnique();
+        existing.setId(1);
+        existing.setValue(10);
+        existing.save();
+
+        SingleNamedUnique upserted = new SingleNamedUnique();
+        upserted.setId(1);
+        upserted.setValue(20);
+        SingleNamedUniquePeer.doUpsert(upserted);
+
+        List<SingleNamedUnique> result
+                = SingleNamedUniquePeer.doSelect(new Criteria());
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getId());
+        assertEquals(20, result.get(0).getValue());
+        assertFalse(upserted.isNew());
+        assertFalse(upserted.isModified());
+    }
+
+    /**
+     * Checks that a collection of objects can be upserted in one batch
+     * which contains both existing and new rows.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testUpsertBatch() throws Exception
+    {
+        SingleNamedUniquePeer.doDelete(new Criteria());
+        SingleNamedUnique existing = new SingleNamedUnique();
+        existing.setId(1);
+        existing.setValue(10);
+        existing.save();
+
+        List<SingleNamedUnique> toUpsert = new ArrayList<>();
+        for (int i = 1; i <= 3; i++)
+        {
+            SingleNamedUnique object = new SingleNamedUnique();
+            object.setId(i);
+            object.setValue(100 + i);
+            toUpsert.add(object);
+        }
+        try (TorqueConnection connection = Transaction.begin())
+        {
+            SingleNamedUniquePeer.doUpsert(toUpsert, connection);
+            Transaction.commit(connection);
+        }
+
+        Criteria criteria = new Criteria()
+                .addAscendingOrderByColumn(SingleNamedUniquePeer.ID);
+        List<SingleNamedUnique> result
+                = SingleNamedUniquePeer.doSelect(criteria);
+        assertEquals(3, result.size());
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(i + 1, result.get(i).getId());
+            assertEquals(101 + i, result.get(i).getValue());
+        }
+    }
+
+    /**
+     * Checks that upserting by an alternate key updates the row
+     * with the same unique value and sets its primary key on the object.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testUpsertByAlternateKey() throws Exception
+    {
+        SingleNamedUniquePeer.doDelete(new Criteria());
+        SingleNamedUnique inserted = new SingleNamedUnique();
+        inserted.setId(1);
+        inserted.setValue(10);
+        try (TorqueConnection connection = Transaction.begin())
+        {
+            SingleNamedUniquePeer.doUpsertByAlternateKey1(inserted, connection);
+            Transaction.commit(connection);
+        }
+        assertEquals(1, inserted.getId());
+
+        SingleNamedUnique upserted = new SingleNamedUnique();
+        upserted.setId(2);
+        upserted.setValue(10);
+        try (TorqueConnection connection = Transaction.begin())
+        {
+            SingleNamedUniquePeer.doUpsertByAlternateKey1(upserted, connection);
+            Transaction.commit(connection);
+        }
+
+        List<SingleNamedUnique> result
+                = SingleNamedUniquePeer.doSelect(new Criteria());
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getId());
+        assertEquals(10, result.get(0).getValue());
+        assertEquals(1, upserted.getId());
+        assertFalse(upserted.isNew());
+    }
+
+    /**
+     * Checks that upserting increments the version column
+     * and that upserting a stale version fails.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testUpsertOptimisticLocking() throws Exception
+    {
+        OptimisticLockingPeer.doDelete(new Criteria());
+        OptimisticLocking existing = new OptimisticLocking();
+        existing.setName("1");
+        existing.save();
+
+        OptimisticLocking upserted = new OptimisticLocking();
+        upserted.setId(existing.getId());
+        upserted.setName("2");
+        upserted.setVersion(0);
+        OptimisticLockingPeer.doUpsert(upserted);
+        assertEquals(Integer.valueOf(1), upserted.getVersion());
+
+        OptimisticLocking stale = new OptimisticLocking();
+        stale.setId(existing.getId());
+        stale.setName("3");
+        stale.setVersion(0);
+        try
+        {
+            OptimisticLockingPeer.doUpsert(stale);
+            fail("Exception expected");
+        }
+        catch (OptimisticLockingFailedException e)
+        {
+            // expected
+        }
+
+        List<OptimisticLocking> result
+                = OptimisticLockingPeer.doSelect(new Criteria());
+        assertEquals(1, result.size());
+        assertEquals("2", result.get(0).getName());
+        assertEquals(Integer.valueOf(1), result.get(0).getVersion());
+    }
+
+    /**
+     * Checks the optimistic locking of the upsert for databases
+     * without native upsert statement, where a stale version must not
+     * lead to an insert of a duplicate key.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testUpsertOptimisticLockingWithoutNativeSupport()
+            throws Exception
+    {
+        OptimisticLockingPeerImpl peerImpl = new OptimisticLockingPeerImpl()
+        {
+            @Override
+            protected String buildUpsertSql(
+                        org.apache.torque.adapter.Adapter adapter,
+                        String tableName,
+                        List<org.apache.torque.Column> columns,
+                        List<org.apache.torque.Column> keyColumns,
+                        List<Integer> parameterOrder)
+            {
+                return null;
+            }
+        };
+        OptimisticLockingPeer.doDelete(new Criteria());
+        OptimisticLocking existing = new OptimisticLocking();
+        existing.setName("1");
+        existing.save();
+
+        OptimisticLocking upserted = new OptimisticLocking();
+        upserted.setId(existing.getId());
+        upserted.setName("2");
+        upserted.setVersion(0);
+        peerImpl.doUpsert(upserted);
+        assertEquals(Integer.valueOf(1), upserted.getVersion());
+
+        OptimisticLocking stale = new OptimisticLocking();
+        stale.setId(existing.getId());
+        stale.setName("3");
+        stale.setVersion(0);
+        try
+        {
+            peerImpl.doUpsert(stale);
+            fail("Exception expected");
+        }
+        catch (OptimisticLockingFailedException e)
+        {
+            // expected
+        }
+
+        List<OptimisticLocking> result
+                = OptimisticLockingPeer.doSelect(new Criteria());
+        assertEquals(1, result.size());
+        assertEquals("2", result.get(0).getName());
+        assertEquals(Integer.valueOf(1), result.get(0).getVersion());
+    }
+}
@@ -22,6 +22,8 @@ package org.apache.torque.map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -30,6 +32,7 @@ import java.util.List;
 import org.apache.torque.BaseDatabaseTestCase;
 import org.apache.torque.Torque;
 import org.apache.torque.TorqueException;
+import org.apache.torque.linkage.DatabaseMapDatabaseMapInit;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
@@ -153,6 +156,32 @@ public class DatabaseMapTest extends BaseDatabaseTestCase
                         + " in DatabaseMap.getTables() array!");
     }
 
+    /**
+     * Check that single tables can be initialized on demand and that
+     * all tables are initialized by the pre-warm method of the MapInit class.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    @Order(4)
+    public void testInitTableAndPreWarm() throws Exception
+    {
+        assertNull(DatabaseMapDatabaseMapInit.initTable("NO_SUCH_TABLE"));
+
+        TableMap tMap = DatabaseMapDatabaseMapInit.initTable(TABLE_NAME2);
+        assertNotNull(tMap);
+        assertEquals(TABLE_NAME2, tMap.getName());
+
+        DatabaseMapDatabaseMapInit.preWarm().get();
+        DatabaseMap map = Torque.getDatabaseMap(DATABASE_NAME);
+        for (String tableName : DatabaseMapDatabaseMapInit.getTableNames())
+        {
+            assertNotNull(
+                    map.getTable(tableName),
+                    "Table " + tableName + " not initialized by preWarm()");
+        }
+    }
+
     /**
      * Check that the external schema tables are added to the database map.
      * <p>
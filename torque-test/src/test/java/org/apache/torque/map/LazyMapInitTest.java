@@ -0,0 +1,79 @@
+package org.apache.torque.map;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.torque.BaseDatabaseTestCase;
+import org.apache.torque.Torque;
+import org.apache.torque.linkage.LazyMapInitDatabaseMapInit;
+import org.apache.torque.test.peer.LazyMapInitFirstPeer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the database map of a schema whose peers were generated
+ * with the option torque.om.lazyMapInit.
+ *
+ * @version $Id: $
+ */
+public class LazyMapInitTest extends BaseDatabaseTestCase
+{
+    public static final String DATABASE_NAME = "lazyMapInit";
+
+    public static final String FIRST_TABLE = "LAZY_MAP_INIT_FIRST";
+
+    public static final String SECOND_TABLE = "LAZY_MAP_INIT_SECOND";
+
+    /**
+     * Checks that using a peer only initializes the map of its own table,
+     * and that the other tables are found by initTable and preWarm.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testLazyMapInit() throws Exception
+    {
+        DatabaseMap map = Torque.getDatabaseMap(DATABASE_NAME);
+        assertNull(map.getTable(FIRST_TABLE));
+        assertNull(map.getTable(SECOND_TABLE));
+
+        TableMap firstTable = LazyMapInitFirstPeer.TABLE;
+        assertSame(firstTable, map.getTable(FIRST_TABLE));
+        // DatabaseMap.getTable() does not find tables whose peer is unused
+        assertNull(map.getTable(SECOND_TABLE));
+
+        TableMap secondTable = LazyMapInitDatabaseMapInit.initTable(SECOND_TABLE);
+        assertNotNull(secondTable);
+        assertEquals(SECOND_TABLE, secondTable.getName());
+        assertSame(secondTable, map.getTable(SECOND_TABLE));
+        assertSame(firstTable, LazyMapInitDatabaseMapInit.initTable(FIRST_TABLE));
+
+        LazyMapInitDatabaseMapInit.preWarm().get();
+        for (String tableName : LazyMapInitDatabaseMapInit.getTableNames())
+        {
+            assertNotNull(
+                    map.getTable(tableName),
+                    "Table " + tableName + " not initialized by preWarm()");
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.apache.torque.om;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -778,6 +779,65 @@ public class OMByNameMethodsTest extends BaseDatabaseTestCase
                 +  "a null value!", error);
     }
 
+    /**
+     * Verify that the ordinal based access methods work
+     * and that the name based methods map to the same ordinals.
+     */
+    @Test
+    public void testOrdinalAccess() throws Exception
+    {
+        TypesPrimitive primitiveTypes = new TypesPrimitive();
+        assertEquals(PRIMITIVE_COLUMN_NAMES.length + 1,
+                TypesPrimitive.FIELD_COUNT);
+        for (int i = 0; i < PRIMITIVE_COLUMN_NAMES.length; i++)
+        {
+            assertEquals(i + 1,
+                    TypesPrimitive.getFieldOrdinal(PRIMITIVE_COLUMN_NAMES[i]));
+            assertEquals(i + 1,
+                    TypesPrimitive.getPeerFieldOrdinal(
+                            PRIMITIVE_PEER_NAMES[i].getSqlExpression()));
+            assertEquals(i + 1,
+                    TypesPrimitive.getPeerFieldOrdinal(
+                            PRIMITIVE_PEER_NAMES[i].getColumnName()));
+            assertTrue(primitiveTypes.set(i + 1, PRIMITIVE_TEST_VALUES[i]));
+            assertEquals(PRIMITIVE_TEST_VALUES[i], primitiveTypes.get(i + 1));
+        }
+        assertValues(primitiveTypes);
+        assertEquals(-1, TypesPrimitive.getFieldOrdinal("xxxPBit"));
+        assertEquals(-1, TypesPrimitive.getPeerFieldOrdinal("xxx.P_BIT"));
+        assertFalse(primitiveTypes.set(1000, Integer.valueOf(1)));
+        assertNull(primitiveTypes.get(-1));
+
+        primitiveTypes.setPBigint(5000000000L);
+        primitiveTypes.setPInteger(7);
+        primitiveTypes.setPReal(1.5f);
+        assertEquals(5000000000L,
+                primitiveTypes.getLong(TypesPrimitive.ORDINAL_P_BIGINT));
+        assertEquals(7L,
+                primitiveTypes.getLong(TypesPrimitive.ORDINAL_P_INTEGER));
+        assertEquals(7, primitiveTypes.getInt(TypesPrimitive.ORDINAL_P_INTEGER));
+        assertEquals(1.5d,
+                primitiveTypes.getDouble(TypesPrimitive.ORDINAL_P_REAL),
+                0d);
+        try
+        {
+            primitiveTypes.getInt(TypesPrimitive.ORDINAL_P_BIGINT);
+            fail("getInt must not accept a long field");
+        }
+        catch (IllegalArgumentException e)
+        {
+            // expected
+        }
+
+        TypesObject objectTypes = new TypesObject();
+        assertEquals(0L, objectTypes.getLong(TypesObject.ORDINAL_O_INTEGER));
+        objectTypes.setOInteger(3);
+        assertEquals(3, objectTypes.getInt(TypesObject.ORDINAL_O_INTEGER));
+        assertEquals(3d,
+                objectTypes.getDouble(TypesObject.ORDINAL_O_INTEGER),
+                0d);
+    }
+
     /**
      * Checks that values were set to the correct value.
      *